@@ -0,0 +1,103 @@
+import java.util.ArrayList;
+
+/*
+ * The following class does the work measured by the benchmarks in the bench
+ * package. It is in the unnamed package, like the chemistry classes, so it can
+ * call their package-private methods. It is only created by Chemistry.load.
+ */
+public final class ChemistryWorkloads implements bench.Chemistry {
+	private static final int carbon = 6, hydrogen = 1;
+	// The atom bonded and removed again by bondAndRemove, so no atom is created while it is measured.
+	private final Atom extraCarbon;
+
+	public ChemistryWorkloads() throws InvalidAtomicNumberException {
+		extraCarbon = new Atom(carbon);
+	}
+
+	@Override
+	public int elementCount() {
+		return 118;
+	}
+
+	@Override
+	public Object newAtom(int atomicNumber) throws InvalidAtomicNumberException {
+		return new Atom(atomicNumber);
+	}
+
+	@Override
+	public int potentialBonds(Object atom) {
+		return ((Atom) atom).potenialChemicalBonds();
+	}
+
+	@Override
+	public Object carbonChain(int length) throws InvalidAtomicNumberException, InvalidChemicalBondException,
+			InvalidObjectWebSizeException {
+		ArrayList<Atom> allAtoms = new ArrayList<Atom>();
+		allAtoms.add(new Atom(carbon));
+		allAtoms.add(new Atom(carbon));
+		BondGraph graph = new BondGraph(2);
+		graph.connect(graph.addAtom(), graph.addAtom());
+		Molecule chain = new Molecule(allAtoms, graph);
+		for (int a = 2; a < length; ++a)
+			chain.bond(a - 1, new Atom(carbon));
+		return chain;
+	}
+
+	@Override
+	public void bondAndRemove(Object chain) throws InvalidChemicalBondException, InvalidObjectWebSizeException {
+		Molecule molecule = (Molecule) chain;
+		int end = molecule.getAllAtoms().size() - 1;
+		molecule.bond(end, extraCarbon);
+		molecule.remove(end + 1);
+	}
+
+	/*
+	 * The carbon atoms form a chain and the hydrogen atoms fill their free
+	 * bonds in order, so a molecule of 3 atoms is CH2 and one of 10,000 atoms
+	 * is a chain of 3,333 carbon atoms.
+	 */
+	@Override
+	public Object hydrocarbon(int atoms) throws InvalidAtomicNumberException, InvalidChemicalBondException,
+			InvalidObjectWebSizeException {
+		int carbons = Math.max(1, atoms / 3);
+		ArrayList<Atom> allAtoms = new ArrayList<Atom>(atoms);
+		BondGraph graph = new BondGraph(atoms);
+		for (int c = 0; c < carbons; ++c) {
+			allAtoms.add(new Atom(carbon));
+			graph.addAtom();
+			if (c > 0)
+				graph.connect(c - 1, c);
+		}
+		for (int c = 0; c < carbons; ++c)
+			while (allAtoms.size() < atoms && graph.degree(c) < 4) {
+				allAtoms.add(new Atom(hydrogen));
+				graph.connect(c, graph.addAtom());
+			}
+		return new Molecule(allAtoms, graph);
+	}
+
+	@Override
+	public Object electronOrbitConfiguration(Object molecule) {
+		Molecule m = (Molecule) molecule;
+		m.atomsChanged();
+		return m.electronOrbitConfiguration();
+	}
+
+	/*
+	 * The angles are returned one per bond. The form with one row per atom
+	 * holds a square array, which no longer fits in memory at 10,000 atoms.
+	 */
+	@Override
+	public Object bondingAngles(Object molecule) {
+		Molecule m = (Molecule) molecule;
+		return m.bondingAngles(m.electronOrbitConfiguration());
+	}
+
+	// Fast geometry is returned as the packed buffer it is calculated in.
+	@Override
+	public Object molecularCoordinates(Object molecule, boolean exact)
+			throws NumberTooLargeException, InvalidDimensionUseException {
+		Molecule m = (Molecule) molecule;
+		return exact ? m.molecularCoordinates(GeometryMode.EXACT) : m.molecularCoordinateBuffer();
+	}
+}
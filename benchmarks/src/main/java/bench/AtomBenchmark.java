@@ -0,0 +1,56 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * The following benchmarks create an atom of every element in turn and ask
+ * each how many bonds it can form. The times are per atom.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AtomBenchmark {
+	private static final int elements = 118;
+	private Chemistry chemistry;
+	private Object[] atoms;
+
+	@Setup
+	public void setUp() throws Exception {
+		chemistry = Chemistry.load();
+		if (chemistry.elementCount() != elements)
+			throw new IllegalStateException("Expected " + elements + " elements, found " + chemistry.elementCount());
+		atoms = new Object[elements];
+		for (int z = 1; z <= elements; ++z)
+			atoms[z - 1] = chemistry.newAtom(z);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(elements)
+	public void newAtom(Blackhole blackhole) throws Exception {
+		for (int z = 1; z <= elements; ++z)
+			blackhole.consume(chemistry.newAtom(z));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(elements)
+	public void potentialChemicalBonds(Blackhole blackhole) {
+		for (Object atom : atoms)
+			blackhole.consume(chemistry.potentialBonds(atom));
+	}
+}
@@ -0,0 +1,49 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * The following benchmarks grow a chain of carbon atoms one bond at a time,
+ * and bond and remove one atom at the end of a chain of each length, which
+ * shows whether the cost of a change grows with the size of the molecule.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark {
+	@Param({ "10", "100", "1000", "10000" })
+	public int length;
+	private Chemistry chemistry;
+	private Object chain;
+
+	@Setup
+	public void setUp() throws Exception {
+		chemistry = Chemistry.load();
+		chain = chemistry.carbonChain(length);
+	}
+
+	@Benchmark
+	public Object growChain() throws Exception {
+		return chemistry.carbonChain(length);
+	}
+
+	@Benchmark
+	public void bondAndRemove() throws Exception {
+		chemistry.bondAndRemove(chain);
+	}
+}
@@ -0,0 +1,39 @@
+package bench;
+
+/*
+ * The following interface is how the benchmarks reach the chemistry classes.
+ * Those classes are in the unnamed package, which no class in a named package
+ * can refer to, and JMH only accepts benchmarks in a named package. So the
+ * work is done by ChemistryWorkloads in the unnamed package, which is loaded
+ * by name and called through this interface. A call through an interface with
+ * one implementation is inlined by the compiler and costs nothing measurable.
+ * Atoms and molecules are passed as plain objects for the same reason.
+ */
+public interface Chemistry {
+	// The number of elements from hydrogen up that atoms can be made of.
+	int elementCount();
+
+	Object newAtom(int atomicNumber) throws Exception;
+
+	int potentialBonds(Object atom);
+
+	// The following method builds a chain of carbon atoms by bonding one atom at a time to the end.
+	Object carbonChain(int length) throws Exception;
+
+	// The following method bonds a carbon atom to the end of a chain and removes it again.
+	void bondAndRemove(Object chain) throws Exception;
+
+	// The following method builds a saturated hydrocarbon with the given number of atoms, at least 3.
+	Object hydrocarbon(int atoms) throws Exception;
+
+	// The following method calculates the electron configuration again, without the stored one.
+	Object electronOrbitConfiguration(Object molecule);
+
+	Object bondingAngles(Object molecule);
+
+	Object molecularCoordinates(Object molecule, boolean exact) throws Exception;
+
+	static Chemistry load() throws ReflectiveOperationException {
+		return Class.forName("ChemistryWorkloads").asSubclass(Chemistry.class).getDeclaredConstructor().newInstance();
+	}
+}
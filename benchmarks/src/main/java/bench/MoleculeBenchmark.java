@@ -0,0 +1,61 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * The following benchmarks calculate the electron configuration and geometry
+ * of saturated hydrocarbons from 3 to 10,000 atoms. The electron
+ * configuration is calculated afresh every time, while the angles and
+ * coordinates reuse the configuration the molecule keeps, so they measure
+ * only the geometry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoleculeBenchmark {
+	@Param({ "3", "10", "100", "1000", "10000" })
+	public int atoms;
+	private Chemistry chemistry;
+	private Object molecule;
+
+	@Setup
+	public void setUp() throws Exception {
+		chemistry = Chemistry.load();
+		molecule = chemistry.hydrocarbon(atoms);
+	}
+
+	@Benchmark
+	public Object electronOrbitConfiguration() {
+		return chemistry.electronOrbitConfiguration(molecule);
+	}
+
+	@Benchmark
+	public Object bondingAngles() {
+		return chemistry.bondingAngles(molecule);
+	}
+
+	@Benchmark
+	public Object molecularCoordinatesFast() throws Exception {
+		return chemistry.molecularCoordinates(molecule, false);
+	}
+
+	@Benchmark
+	public Object molecularCoordinatesExact() throws Exception {
+		return chemistry.molecularCoordinates(molecule, true);
+	}
+}
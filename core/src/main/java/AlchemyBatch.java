@@ -0,0 +1,200 @@
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/*
+ * This program is the counterpart of Alchemy for machines without a display.
+ * It reads molecules written one per line in the form MoleculeSpec.parse
+ * accepts, from the files named on the command line or from standard input.
+ * Files named .xyz, .mol, .sdf, .smi or .alcm are read in that format
+ * instead. It writes one line per molecule with its electron configuration,
+ * bond lengths and coordinates in the same order. The molecules are evaluated
+ * by a BatchEvaluator on every core. A summary with the startup time and the
+ * memory used per molecule is written to standard error.
+ *
+ * Usage: java AlchemyBatch [--threads n] [--exact] [file ...]
+ */
+public final class AlchemyBatch {
+	private AlchemyBatch() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		long mainStarted = System.currentTimeMillis();
+		int threadCount = Runtime.getRuntime().availableProcessors();
+		GeometryMode mode = GeometryMode.FAST;
+		ArrayList<String> files = new ArrayList<String>();
+		for (int a = 0; a < args.length; ++a)
+			switch (args[a]) {
+			case "--threads":
+				if (a + 1 == args.length)
+					usage();
+				threadCount = threadCount(args[++a]);
+				break;
+			case "--exact":
+				mode = GeometryMode.EXACT;
+				break;
+			case "--help":
+				usage();
+				break;
+			default:
+				files.add(args[a]);
+			}
+		if (files.isEmpty())
+			files.add("-");
+		MoleculeEngine engine = new MoleculeEngine(mode);
+		Statistics statistics = new Statistics();
+		statistics.startupMilliseconds = mainStarted - ManagementFactory.getRuntimeMXBean().getStartTime();
+		long started = System.nanoTime();
+		PrintStream out = new PrintStream(System.out, false, StandardCharsets.UTF_8);
+		try (BatchEvaluator evaluator = new BatchEvaluator(engine, threadCount)) {
+			BatchEvaluator.Session session = evaluator.open(evaluation -> {
+				statistics.add(evaluation);
+				out.println(evaluation.toLine());
+			});
+			// The results already handed over are written even if an input fails part way.
+			try {
+				for (String file : files)
+					try {
+						evaluate(file, session);
+					} catch (IOException ioe) {
+						// The rest of a file that cannot be read is skipped, and the next file is read.
+						session.add(new MoleculeEvaluation(file, null, "The file cannot be read: " + ioe.getMessage(),
+								0, -1));
+					}
+			} finally {
+				session.close();
+			}
+		} finally {
+			out.flush();
+		}
+		statistics.wallNanoseconds = System.nanoTime() - started;
+		statistics.report(System.err);
+	}
+
+	// The following method hands one input to the workers in the format its name gives.
+	private static void evaluate(String file, BatchEvaluator.Session session) throws IOException {
+		MoleculeFormat format = file.equals("-") ? null : MoleculeFormat.forFileName(file);
+		if (file.endsWith(BinaryMoleculeFormat.extension))
+			try (BinaryMoleculeArchive archive = BinaryMoleculeArchive.open(Paths.get(file))) {
+				evaluate(archive, session);
+			}
+		else if (format != null)
+			try (MoleculeFileReader reader = MoleculeFileReader.open(Paths.get(file), format)) {
+				evaluate(reader, session);
+			}
+		else
+			try (InputStream input = file.equals("-") ? System.in : new FileInputStream(file)) {
+				evaluate(file, input, session);
+			}
+	}
+
+	// The following method hands the lines of one input to the workers.
+	private static void evaluate(String file, InputStream input, BatchEvaluator.Session session) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		String line;
+		int lineNumber = 0;
+		while ((line = reader.readLine()) != null) {
+			++lineNumber;
+			String trimmed = line.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("#"))
+				continue;
+			session.add(file + ":" + lineNumber, trimmed);
+		}
+	}
+
+	/*
+	 * The following method hands the records of a molecule file to the
+	 * workers. A record that cannot be read is written as a failure.
+	 */
+	private static void evaluate(MoleculeFileReader reader, BatchEvaluator.Session session) throws IOException {
+		while (true) {
+			MoleculeRecord record;
+			try {
+				record = reader.next();
+			} catch (InvalidMoleculeSpecException ivmse) {
+				session.add(new MoleculeEvaluation("line " + reader.lineNumber(), null, ivmse.getMessage(), 0, -1));
+				continue;
+			}
+			if (record == null)
+				return;
+			session.add(record.getSpec());
+		}
+	}
+
+	// The following method hands the records of a binary molecule archive to the workers.
+	private static void evaluate(BinaryMoleculeArchive archive, BatchEvaluator.Session session) throws IOException {
+		BinaryMoleculeView view;
+		while ((view = archive.next()) != null)
+			try {
+				session.add(view.toSpec());
+			} catch (InvalidMoleculeSpecException ivmse) {
+				session.add(new MoleculeEvaluation("record " + archive.recordNumber(), null, ivmse.getMessage(), 0, -1));
+			}
+	}
+
+	// The following method reads the number given with --threads, and stops with the usage if it is not one.
+	private static int threadCount(String value) {
+		try {
+			int threadCount = Integer.parseInt(value);
+			if (threadCount > 0)
+				return threadCount;
+		} catch (NumberFormatException nfe) {
+		}
+		System.err.println("The number of threads must be a positive whole number, not " + value + ".");
+		usage();
+		return 0;
+	}
+
+	private static void usage() {
+		System.err.println("Usage: java AlchemyBatch [--threads n] [--exact] [file ...]");
+		System.err.println("Each line holds one molecule, for example:  water; O H H; 0-1 0-2");
+		System.exit(2);
+	}
+
+	// The following class adds up the figures written in the summary.
+	private static final class Statistics {
+		long startupMilliseconds;
+		long wallNanoseconds;
+		long molecules, failures, atoms;
+		long evaluationNanoseconds;
+		long allocatedBytes, measuredMolecules;
+
+		void add(MoleculeEvaluation evaluation) {
+			++molecules;
+			if (!evaluation.succeeded())
+				++failures;
+			else
+				atoms += evaluation.getSpec().atomCount();
+			evaluationNanoseconds += evaluation.getNanoseconds();
+			if (evaluation.getAllocatedBytes() >= 0) {
+				allocatedBytes += evaluation.getAllocatedBytes();
+				++measuredMolecules;
+			}
+		}
+
+		void report(PrintStream err) {
+			err.printf("molecules: %d (%d failed, %d atoms)%n", molecules, failures, atoms);
+			err.printf("startup: %d ms before main%n", startupMilliseconds);
+			err.printf("wall time: %.1f ms, %.0f molecules/s%n", wallNanoseconds / 1e6,
+					molecules == 0 ? 0.0 : molecules / (wallNanoseconds / 1e9));
+			if (molecules > 0)
+				err.printf("evaluation: %.1f us per molecule%n", evaluationNanoseconds / 1e3 / molecules);
+			if (measuredMolecules > 0)
+				err.printf("allocated: %d bytes per molecule%n", allocatedBytes / measuredMolecules);
+			long peakHeap = 0;
+			for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+				if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null)
+					peakHeap += pool.getPeakUsage().getUsed();
+			err.printf("peak heap: %d KiB%n", peakHeap / 1024);
+		}
+	}
+}
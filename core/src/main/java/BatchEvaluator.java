@@ -0,0 +1,205 @@
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/*
+ * The following class evaluates many molecules at once on a work-stealing
+ * pool. The molecules are handed to the pool in chunks, and a chunk is split
+ * in halves for as long as it is worth it, so a worker that runs out of work
+ * takes the half another worker has not reached yet, and a few large
+ * molecules do not leave the other cores idle. A molecule that cannot be
+ * built comes back as a failed MoleculeEvaluation like any other result, and
+ * the results always come back in the order the molecules were given.
+ */
+public final class BatchEvaluator implements AutoCloseable {
+	// The number of molecules handed to the pool at once.
+	static final int chunkSize = 256;
+	// Pieces of a chunk at most this large are evaluated without splitting them further.
+	private static final int splitThreshold = 4;
+	private final MoleculeEngine engine;
+	private final ForkJoinPool pool;
+	// The number of chunks evaluated ahead of the one whose results are being handed back.
+	private final int window;
+
+	public BatchEvaluator(MoleculeEngine engine) {
+		this(engine, Runtime.getRuntime().availableProcessors());
+	}
+
+	public BatchEvaluator(MoleculeEngine engine, int parallelism) {
+		this.engine = engine;
+		pool = new ForkJoinPool(Math.max(1, parallelism), BatchEvaluator::newWorker, null, false);
+		window = Math.max(1, parallelism) * 2;
+	}
+
+	private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+		ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+		worker.setName("molecule-worker-" + worker.getPoolIndex());
+		return worker;
+	}
+
+	public MoleculeEngine getEngine() {
+		return engine;
+	}
+
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	// The following method evaluates every molecule of a list and returns the results in the same order.
+	public List<MoleculeEvaluation> evaluateAll(List<MoleculeSpec> specs) {
+		Item[] items = new Item[specs.size()];
+		for (int i = 0; i < items.length; ++i)
+			items[i] = new Item(specs.get(i));
+		MoleculeEvaluation[] results = new MoleculeEvaluation[items.length];
+		pool.invoke(new Chunk(engine, items, results, 0, items.length));
+		return Arrays.asList(results);
+	}
+
+	/*
+	 * The following method evaluates the molecules of a stream of any length
+	 * and hands each result to the consumer, in order, on the calling thread.
+	 * Only a few chunks are held in memory at any time.
+	 */
+	public void evaluate(Stream<MoleculeSpec> specs, Consumer<MoleculeEvaluation> results) {
+		Session session = open(results);
+		specs.forEachOrdered(session::add);
+		session.close();
+	}
+
+	// The following method starts handing molecules over one at a time, for inputs that are not streams.
+	public Session open(Consumer<MoleculeEvaluation> results) {
+		return new Session(results);
+	}
+
+	// The following method stops the workers; molecules still being evaluated are abandoned.
+	@Override
+	public void close() {
+		pool.shutdownNow();
+	}
+
+	/*
+	 * The following class collects the molecules handed over into chunks and
+	 * hands the results of the oldest chunk to the consumer whenever too many
+	 * chunks are in flight. Closing it waits for the remaining results.
+	 */
+	public final class Session implements AutoCloseable {
+		private final Consumer<MoleculeEvaluation> results;
+		private final ArrayDeque<Chunk> inFlight = new ArrayDeque<Chunk>();
+		private Item[] items = new Item[chunkSize];
+		private int count;
+
+		private Session(Consumer<MoleculeEvaluation> results) {
+			this.results = results;
+		}
+
+		public void add(MoleculeSpec spec) {
+			add(new Item(spec));
+		}
+
+		// The following method adds a molecule written on one line in the form MoleculeSpec.parse accepts.
+		public void add(String name, String line) {
+			add(new Item(name, line));
+		}
+
+		// The following method adds a result known in advance, such as a record that could not be read.
+		public void add(MoleculeEvaluation evaluation) {
+			add(new Item(evaluation));
+		}
+
+		private void add(Item item) {
+			items[count++] = item;
+			if (count == chunkSize)
+				flush();
+		}
+
+		private void flush() {
+			if (count == 0)
+				return;
+			Chunk chunk = new Chunk(engine, items, new MoleculeEvaluation[count], 0, count);
+			pool.execute(chunk);
+			inFlight.add(chunk);
+			items = new Item[chunkSize];
+			count = 0;
+			while (inFlight.size() > window)
+				deliver(inFlight.remove());
+		}
+
+		private void deliver(Chunk chunk) {
+			chunk.join();
+			for (MoleculeEvaluation evaluation : chunk.results)
+				results.accept(evaluation);
+		}
+
+		@Override
+		public void close() {
+			flush();
+			while (!inFlight.isEmpty())
+				deliver(inFlight.remove());
+		}
+	}
+
+	// The following class holds one molecule handed over, in whichever form it was given.
+	private static final class Item {
+		final MoleculeSpec spec;
+		final String name, line;
+		final MoleculeEvaluation evaluation;
+
+		Item(MoleculeSpec spec) {
+			this.spec = spec;
+			name = line = null;
+			evaluation = null;
+		}
+
+		Item(String name, String line) {
+			this.name = name;
+			this.line = line;
+			spec = null;
+			evaluation = null;
+		}
+
+		Item(MoleculeEvaluation evaluation) {
+			this.evaluation = evaluation;
+			spec = null;
+			name = line = null;
+		}
+
+		MoleculeEvaluation evaluate(MoleculeEngine engine) {
+			if (evaluation != null)
+				return evaluation;
+			return spec != null ? engine.evaluate(spec) : engine.evaluate(name, line);
+		}
+	}
+
+	// The following class evaluates a range of a chunk, splitting it in halves while it is large.
+	private static final class Chunk extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final transient MoleculeEngine engine;
+		private final transient Item[] items;
+		final transient MoleculeEvaluation[] results;
+		private final int from, to;
+
+		Chunk(MoleculeEngine engine, Item[] items, MoleculeEvaluation[] results, int from, int to) {
+			this.engine = engine;
+			this.items = items;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= splitThreshold) {
+				for (int i = from; i < to; ++i)
+					results[i] = items[i].evaluate(engine);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new Chunk(engine, items, results, from, middle), new Chunk(engine, items, results, middle, to));
+		}
+	}
+}
@@ -0,0 +1,135 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * The following class reads the records of a binary molecule archive in
+ * order. A file is read through a mapped window that moves forward as the
+ * records are read, so archives of any size can be read, and a buffer already
+ * in memory can be read directly. Every call to next returns the same view,
+ * moved to the next record, so the records are read without being copied.
+ */
+public final class BinaryMoleculeArchive implements Closeable {
+	static final int defaultWindowSize = 256 << 20;
+	static final int maximumWindowSize = Integer.MAX_VALUE - 8;
+	private final FileChannel channel;
+	private final long size;
+	private int windowSize;
+	private ByteBuffer window;
+	private long windowStart;
+	private int position;
+	private long recordNumber;
+	private final BinaryMoleculeView view = new BinaryMoleculeView();
+
+	private BinaryMoleculeArchive(FileChannel channel, int windowSize) throws IOException {
+		this.channel = channel;
+		size = channel.size();
+		this.windowSize = windowSize;
+		map(0);
+		readHeader();
+	}
+
+	private BinaryMoleculeArchive(ByteBuffer buffer) throws IOException {
+		channel = null;
+		window = buffer.slice();
+		size = window.limit();
+		readHeader();
+	}
+
+	public static BinaryMoleculeArchive open(Path file) throws IOException {
+		return open(file, defaultWindowSize);
+	}
+
+	static BinaryMoleculeArchive open(Path file, int windowSize) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return new BinaryMoleculeArchive(channel, Math.max(64, windowSize));
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	// The following method reads an archive from its current position to its limit.
+	public static BinaryMoleculeArchive wrap(ByteBuffer buffer) throws IOException {
+		return new BinaryMoleculeArchive(buffer);
+	}
+
+	private void readHeader() throws IOException {
+		if (size < BinaryMoleculeFormat.headerLength)
+			throw new IOException("The data is too short to be a molecule archive.");
+		for (int b = 0; b < BinaryMoleculeFormat.magic.length; ++b)
+			if (window.get(b) != BinaryMoleculeFormat.magic[b])
+				throw new IOException("The data is not a molecule archive.");
+		if (window.get(BinaryMoleculeFormat.magic.length) != BinaryMoleculeFormat.version)
+			throw new IOException("Version " + window.get(BinaryMoleculeFormat.magic.length)
+					+ " of the molecule archive format cannot be read.");
+		position = BinaryMoleculeFormat.headerLength;
+	}
+
+	private void map(long start) throws IOException {
+		windowStart = start;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+		position = 0;
+	}
+
+	/*
+	 * The following method returns the view moved to the next record, or null
+	 * after the last one. The view is only valid until the next call.
+	 */
+	public BinaryMoleculeView next() throws IOException {
+		if (windowStart + position >= size)
+			return null;
+		if (!fits(BinaryMoleculeFormat.maximumVarintLength))
+			move(BinaryMoleculeFormat.maximumVarintLength);
+		// A record whose length is damaged leaves no way to find the records after it.
+		try {
+			long varint = BinaryMoleculeFormat.readVarint(window, position);
+			int length = BinaryMoleculeFormat.next(varint) - position + BinaryMoleculeFormat.value(varint);
+			if (BinaryMoleculeFormat.value(varint) < 0 || length < 0)
+				throw new IllegalStateException("The length is negative.");
+			// A window can grow to any length that fits in one mapping, so nothing longer is tried.
+			if (windowStart + position + length > size || length > maximumWindowSize)
+				throw new IllegalStateException("The record runs past the end of the data.");
+			if (!fits(length))
+				move(length);
+			position = view.moveTo(window, position);
+		} catch (IllegalStateException | IndexOutOfBoundsException e) {
+			throw new IOException("Record " + (recordNumber + 1) + " cannot be read: " + e.getMessage());
+		}
+		++recordNumber;
+		return view;
+	}
+
+	// The following method says whether the window holds the given number of bytes from the position.
+	private boolean fits(int length) {
+		return position + length <= window.limit() || windowStart + window.limit() >= size;
+	}
+
+	/*
+	 * The following method moves the window to start at the position, making
+	 * it larger if the record would not fit in it.
+	 */
+	private void move(int length) throws IOException {
+		if (channel == null)
+			throw new IOException("The archive ends in the middle of a record.");
+		while (windowSize < length)
+			windowSize = (int) Math.min(maximumWindowSize, windowSize * 2L);
+		map(windowStart + position);
+	}
+
+	// The following method returns how many records have been read.
+	public long recordNumber() {
+		return recordNumber;
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		if (channel != null)
+			channel.close();
+	}
+}
@@ -0,0 +1,87 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/*
+ * The following class holds the layout of the binary molecule format and the
+ * variable length integers it is built from. A file starts with the four bytes
+ * ALCM and a version byte, followed by records laid out as
+ *
+ *     record length    varint, the number of bytes after it
+ *     flags            one byte; bit 0 is set when coordinates follow
+ *     name             varint length, then UTF-8 bytes
+ *     atom count       varint
+ *     atomic numbers   one byte per atom
+ *     bonds            for every atom, a varint count of the bonds to atoms
+ *                      with a higher index, then the differences between
+ *                      each of those atoms and the one before, starting
+ *                      from the atom itself
+ *     coordinates      if flagged, x, y and z of every atom as little endian
+ *                      floats in picometers
+ *
+ * Small molecules have small differences, so almost every bond takes one
+ * byte, and a record can be skipped without reading it by its length.
+ */
+final class BinaryMoleculeFormat {
+	static final String extension = ".alcm";
+	static final byte[] magic = { 'A', 'L', 'C', 'M' };
+	static final byte version = 1;
+	static final int headerLength = magic.length + 1;
+	static final int hasCoordinates = 1;
+	// A varint never takes more than five bytes for an int.
+	static final int maximumVarintLength = 5;
+
+	private BinaryMoleculeFormat() {
+	}
+
+	// The following method returns the number of bytes the unsigned value takes as a varint.
+	static int varintLength(int value) {
+		int length = 1;
+		while ((value & ~0x7F) != 0) {
+			value >>>= 7;
+			++length;
+		}
+		return length;
+	}
+
+	static int writeVarint(byte[] target, int position, int value) {
+		while ((value & ~0x7F) != 0) {
+			target[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		target[position++] = (byte) value;
+		return position;
+	}
+
+	static void writeVarint(OutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	/*
+	 * The following method reads a varint at an absolute position without
+	 * moving the buffer. The value is in the low 32 bits of the result and the
+	 * position after it in the high 32 bits, so nothing is allocated.
+	 */
+	static long readVarint(ByteBuffer buffer, int position) {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			byte b = buffer.get(position++);
+			value |= (b & 0x7F) << shift;
+			if (b >= 0)
+				return (long) position << 32 | (value & 0xFFFFFFFFL);
+		}
+		throw new IllegalStateException("A varint is longer than five bytes.");
+	}
+
+	static int value(long varint) {
+		return (int) varint;
+	}
+
+	static int next(long varint) {
+		return (int) (varint >>> 32);
+	}
+}
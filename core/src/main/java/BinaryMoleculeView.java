@@ -0,0 +1,191 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * The following class reads one record of the binary molecule format in place,
+ * straight from a buffer that may be mapped from a file. Moving the view to a
+ * record only reads the few lengths needed to find its fields. A field is
+ * decoded when it is asked for, and the same view can be moved from record to
+ * record, so reading an archive creates no objects per molecule unless the
+ * caller asks for them.
+ */
+public final class BinaryMoleculeView {
+	private ByteBuffer buffer;
+	private int recordStart;
+	private int recordEnd;
+	private int flags;
+	private int nameStart, nameLength;
+	private int atomCount;
+	private int atomsStart;
+	private int bondsStart;
+	// The following two fields are worked out the first time they are needed.
+	private int coordinatesStart = -1;
+	private int bondCount = -1;
+	// The following message says why the fields of the record cannot be read, or is null if they can.
+	private String damage;
+
+	/*
+	 * The following method moves the view to the record whose length starts at
+	 * the given position, and returns the position of the next record.
+	 */
+	int moveTo(ByteBuffer buffer, int position) {
+		this.buffer = buffer;
+		long varint = BinaryMoleculeFormat.readVarint(buffer, position);
+		recordStart = BinaryMoleculeFormat.next(varint);
+		recordEnd = recordStart + BinaryMoleculeFormat.value(varint);
+		if (recordEnd > buffer.limit() || recordEnd < recordStart)
+			throw new IllegalStateException("The record at " + position + " runs past the end of the data.");
+		coordinatesStart = -1;
+		bondCount = -1;
+		damage = null;
+		/*
+		 * The length of the record is sound, so the next record can be found
+		 * even if the fields of this one are damaged. They are then read as an
+		 * empty record, and toSpec says what is wrong.
+		 */
+		try {
+			flags = buffer.get(within(recordStart));
+			varint = BinaryMoleculeFormat.readVarint(buffer, recordStart + 1);
+			nameLength = BinaryMoleculeFormat.value(varint);
+			nameStart = BinaryMoleculeFormat.next(varint);
+			varint = BinaryMoleculeFormat.readVarint(buffer, within(nameStart + nameLength));
+			atomCount = BinaryMoleculeFormat.value(varint);
+			atomsStart = BinaryMoleculeFormat.next(varint);
+			bondsStart = within(atomsStart + atomCount);
+			if (nameLength < 0 || atomCount < 0)
+				throw new IllegalStateException("A length is negative.");
+		} catch (IllegalStateException | IndexOutOfBoundsException e) {
+			damage = e.getMessage();
+			flags = 0;
+			nameStart = nameLength = atomCount = 0;
+			atomsStart = bondsStart = coordinatesStart = recordEnd;
+			bondCount = 0;
+		}
+		return recordEnd;
+	}
+
+	// The following method checks that a position lies inside the record.
+	private int within(int position) {
+		if (position < recordStart || position > recordEnd)
+			throw new IllegalStateException("A field runs past the end of the record.");
+		return position;
+	}
+
+	public String name() {
+		byte[] bytes = new byte[nameLength];
+		buffer.get(nameStart, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	public int atomCount() {
+		return atomCount;
+	}
+
+	public int atomicNumber(int atom) {
+		if (atom < 0 || atom >= atomCount)
+			throw new IndexOutOfBoundsException("Atom " + atom);
+		return buffer.get(atomsStart + atom) & 0xFF;
+	}
+
+	public int bondCount() {
+		if (bondCount < 0)
+			walkBonds(null);
+		return bondCount;
+	}
+
+	/*
+	 * The following method writes the bonds as pairs into the array, which
+	 * must hold twice the number of bonds, with the lower atom first.
+	 */
+	public void bonds(int[] pairs) {
+		if (pairs.length < 2 * bondCount())
+			throw new IllegalArgumentException("The array must hold two atoms for every bond.");
+		walkBonds(pairs);
+	}
+
+	/*
+	 * The following method reads the bonds once, counting them and writing
+	 * them into pairs if it is not null. The coordinates start where the bonds
+	 * end.
+	 */
+	private void walkBonds(int[] pairs) {
+		int position = bondsStart;
+		int count = 0;
+		for (int i = 0; i < atomCount; ++i) {
+			long varint = BinaryMoleculeFormat.readVarint(buffer, within(position));
+			int degree = BinaryMoleculeFormat.value(varint);
+			position = within(BinaryMoleculeFormat.next(varint));
+			int previous = i;
+			for (int k = 0; k < degree; ++k) {
+				varint = BinaryMoleculeFormat.readVarint(buffer, within(position));
+				previous += BinaryMoleculeFormat.value(varint);
+				position = within(BinaryMoleculeFormat.next(varint));
+				if (pairs != null) {
+					pairs[2 * count] = i;
+					pairs[2 * count + 1] = previous;
+				}
+				++count;
+			}
+		}
+		bondCount = count;
+		coordinatesStart = position;
+	}
+
+	public boolean hasCoordinates() {
+		return (flags & BinaryMoleculeFormat.hasCoordinates) != 0;
+	}
+
+	// The following method returns one coordinate of an atom in picometers; axis 0 is x, 1 y and 2 z.
+	public float coordinate(int atom, int axis) {
+		if (!hasCoordinates())
+			throw new IllegalStateException("The record has no coordinates.");
+		if (atom < 0 || atom >= atomCount || axis < 0 || axis > 2)
+			throw new IndexOutOfBoundsException("Atom " + atom + ", axis " + axis);
+		if (coordinatesStart < 0)
+			walkBonds(null);
+		int position = coordinatesStart + (atom * 3 + axis) * 4;
+		if (buffer.order() == ByteOrder.LITTLE_ENDIAN)
+			return buffer.getFloat(position);
+		return Float.intBitsToFloat(Integer.reverseBytes(buffer.getInt(position)));
+	}
+
+	// The following method returns the coordinates in a new buffer, or null if there are none.
+	public CoordinateBuffer coordinates() {
+		if (!hasCoordinates())
+			return null;
+		CoordinateBuffer coordinates = new CoordinateBuffer(atomCount);
+		for (int a = 0; a < atomCount; ++a)
+			coordinates.set(a, coordinate(a, 0), coordinate(a, 1), coordinate(a, 2));
+		return coordinates;
+	}
+
+	/*
+	 * The following method copies the record out of the buffer as a
+	 * description. A record whose fields are damaged is refused, so that one
+	 * bad record does not stop the reading of the rest.
+	 */
+	public MoleculeSpec toSpec() throws InvalidMoleculeSpecException {
+		if (damage != null)
+			throw new InvalidMoleculeSpecException("The record is damaged: " + damage);
+		try {
+			int[] atomicNumbers = new int[atomCount];
+			for (int a = 0; a < atomCount; ++a)
+				atomicNumbers[a] = buffer.get(atomsStart + a) & 0xFF;
+			int[] pairs = new int[2 * bondCount()];
+			walkBonds(pairs);
+			return new MoleculeSpec(name(), atomicNumbers, pairs);
+		} catch (IllegalStateException | IndexOutOfBoundsException e) {
+			throw new InvalidMoleculeSpecException("The record is damaged: " + e.getMessage());
+		}
+	}
+
+	public MoleculeRecord toRecord() throws InvalidMoleculeSpecException {
+		return new MoleculeRecord(toSpec(), coordinates());
+	}
+
+	// The following method returns the size of the record in bytes, not counting its length.
+	public int recordLength() {
+		return recordEnd - recordStart;
+	}
+}
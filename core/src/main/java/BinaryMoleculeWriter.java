@@ -0,0 +1,116 @@
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/*
+ * The following class writes molecules in the binary molecule format
+ * described in BinaryMoleculeFormat. Each record is assembled in one reused
+ * array and written with its length in front, so writing allocates almost
+ * nothing per molecule.
+ */
+public final class BinaryMoleculeWriter implements Closeable, Flushable {
+	private final OutputStream out;
+	private byte[] record = new byte[256];
+	private long recordCount;
+
+	public BinaryMoleculeWriter(OutputStream out) throws IOException {
+		this.out = out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out, 1 << 16);
+		this.out.write(BinaryMoleculeFormat.magic);
+		this.out.write(BinaryMoleculeFormat.version);
+	}
+
+	public void write(MoleculeRecord record) throws IOException {
+		write(record.getSpec(), record.hasCoordinates() ? record.getCoordinates() : null);
+	}
+
+	// The following method writes a description, with coordinates in picometers or null for none.
+	public void write(MoleculeSpec spec, CoordinateBuffer coordinates) throws IOException {
+		int atomCount = spec.atomCount();
+		byte[] atomicNumbers = new byte[atomCount];
+		for (int a = 0; a < atomCount; ++a)
+			atomicNumbers[a] = (byte) spec.atomicNumber(a);
+		write(spec.getName(), atomicNumbers, spec.bondGraph().compress(), coordinates);
+	}
+
+	// The following method writes a molecule as it is, with coordinates in picometers or null for none.
+	public void write(String name, Molecule molecule, CoordinateBuffer coordinates) throws IOException {
+		List<Atom> allAtoms = molecule.getAllAtoms();
+		byte[] atomicNumbers = new byte[allAtoms.size()];
+		for (int a = 0; a < atomicNumbers.length; ++a)
+			atomicNumbers[a] = (byte) allAtoms.get(a).getAtomicNumber();
+		write(name, atomicNumbers, molecule.bondGraph().compress(), coordinates);
+	}
+
+	private void write(String name, byte[] atomicNumbers, CompressedBonds bonds, CoordinateBuffer coordinates)
+			throws IOException {
+		int atomCount = atomicNumbers.length;
+		if (coordinates != null && coordinates.size() != atomCount)
+			throw new IllegalArgumentException("There must be exactly one coordinate for every atom.");
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		/*
+		 * The record can never be longer than this, so it is assembled without
+		 * checking the space left for every byte.
+		 */
+		int longest = 1 + 2 * BinaryMoleculeFormat.maximumVarintLength + nameBytes.length + atomCount
+				+ (atomCount + bonds.slotCount()) * BinaryMoleculeFormat.maximumVarintLength
+				+ (coordinates == null ? 0 : atomCount * 12);
+		if (record.length < longest)
+			record = new byte[Math.max(longest, record.length * 2)];
+		int position = 0;
+		record[position++] = (byte) (coordinates == null ? 0 : BinaryMoleculeFormat.hasCoordinates);
+		position = BinaryMoleculeFormat.writeVarint(record, position, nameBytes.length);
+		System.arraycopy(nameBytes, 0, record, position, nameBytes.length);
+		position += nameBytes.length;
+		position = BinaryMoleculeFormat.writeVarint(record, position, atomCount);
+		System.arraycopy(atomicNumbers, 0, record, position, atomCount);
+		position += atomCount;
+		for (int i = 0; i < atomCount; ++i) {
+			// The bonds of each atom are in ascending order, so those to higher atoms come last.
+			int first = bonds.offsets[i], end = bonds.offsets[i + 1];
+			while (first < end && bonds.targets[first] < i)
+				++first;
+			position = BinaryMoleculeFormat.writeVarint(record, position, end - first);
+			int previous = i;
+			for (int slot = first; slot < end; ++slot) {
+				position = BinaryMoleculeFormat.writeVarint(record, position, bonds.targets[slot] - previous);
+				previous = bonds.targets[slot];
+			}
+		}
+		if (coordinates != null)
+			for (int a = 0; a < atomCount; ++a) {
+				position = writeFloat(record, position, (float) coordinates.getX(a));
+				position = writeFloat(record, position, (float) coordinates.getY(a));
+				position = writeFloat(record, position, (float) coordinates.getZ(a));
+			}
+		BinaryMoleculeFormat.writeVarint(out, position);
+		out.write(record, 0, position);
+		++recordCount;
+	}
+
+	private static int writeFloat(byte[] target, int position, float value) {
+		int bits = Float.floatToRawIntBits(value);
+		target[position] = (byte) bits;
+		target[position + 1] = (byte) (bits >>> 8);
+		target[position + 2] = (byte) (bits >>> 16);
+		target[position + 3] = (byte) (bits >>> 24);
+		return position + 4;
+	}
+
+	public long recordCount() {
+		return recordCount;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+}
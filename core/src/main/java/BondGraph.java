@@ -0,0 +1,261 @@
+import java.util.Arrays;
+
+/*
+ * The following class stores which atoms of a molecule bond to which other
+ * atoms. Every atom keeps the list of atoms it bonds to in ascending order, so
+ * the memory used grows with the number of bonds rather than with the square
+ * of the number of atoms. A graph made by sharing reads from a compressed form
+ * that other graphs may share too, and only copies it into lists of its own
+ * when it first changes.
+ */
+final class BondGraph {
+	private static final int[] noNeighbours = new int[0];
+	// The following two arrays are null while the graph still reads from the compressed form it shares.
+	private int[][] neighbours;
+	private int[] degrees;
+	private int size;
+	/*
+	 * The compressed form of the graph is kept until the next change, since
+	 * several calculations in a row usually read the same molecule.
+	 */
+	private CompressedBonds compressed;
+
+	BondGraph() {
+		this(4);
+	}
+
+	BondGraph(int capacity) {
+		if (capacity < 1)
+			capacity = 1;
+		neighbours = new int[capacity][];
+		degrees = new int[capacity];
+	}
+
+	private BondGraph(CompressedBonds shared) {
+		compressed = shared;
+		size = shared.size();
+	}
+
+	static BondGraph sharing(CompressedBonds shared) {
+		return new BondGraph(shared);
+	}
+
+	// The following method gives the graph lists of its own before its first change.
+	private void unshare() {
+		if (neighbours != null)
+			return;
+		neighbours = new int[Math.max(1, size)][];
+		degrees = new int[neighbours.length];
+		for (int i = 0; i < size; ++i) {
+			degrees[i] = compressed.degree(i);
+			neighbours[i] = degrees[i] == 0 ? noNeighbours
+					: Arrays.copyOfRange(compressed.targets, compressed.offsets[i], compressed.offsets[i + 1]);
+		}
+	}
+
+	/*
+	 * The following method reads a two dimensional boolean array in which row i
+	 * lists every other atom in order, skipping atom i itself.
+	 */
+	static BondGraph fromMatrix(boolean[][] bondsTo) {
+		BondGraph graph = new BondGraph(bondsTo.length);
+		for (int i = 0; i < bondsTo.length; ++i)
+			graph.addAtom();
+		for (int i = 0; i < bondsTo.length; ++i)
+			for (int j = 0; j < bondsTo[i].length; ++j) {
+				if (!bondsTo[i][j])
+					continue;
+				int x = j;
+				if (x >= i)
+					x++;
+				if (!graph.bonds(i, x))
+					graph.connect(i, x);
+			}
+		return graph;
+	}
+
+	/*
+	 * The following method returns the column of the other atom in the row of
+	 * the given atom of the two dimensional boolean array.
+	 */
+	static int column(int atom, int other) {
+		return other > atom ? other - 1 : other;
+	}
+
+	boolean[][] toMatrix() {
+		unshare();
+		boolean[][] bondsTo = new boolean[size][size == 0 ? 0 : size - 1];
+		for (int i = 0; i < size; ++i)
+			for (int k = 0; k < degrees[i]; ++k)
+				bondsTo[i][column(i, neighbours[i][k])] = true;
+		return bondsTo;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int degree(int atom) {
+		checkAtom(atom);
+		return neighbours == null ? compressed.degree(atom) : degrees[atom];
+	}
+
+	// The following method returns the k-th atom, in ascending order, bonded to an atom.
+	int neighbour(int atom, int k) {
+		checkAtom(atom);
+		if (k < 0 || k >= degree(atom))
+			throw new IndexOutOfBoundsException("Bond " + k + " of atom " + atom);
+		return neighbours == null ? compressed.targets[compressed.offsets[atom] + k] : neighbours[atom][k];
+	}
+
+	boolean bonds(int atom, int other) {
+		checkAtom(atom);
+		checkAtom(other);
+		if (neighbours == null)
+			return Arrays.binarySearch(compressed.targets, compressed.offsets[atom], compressed.offsets[atom + 1],
+					other) >= 0;
+		return Arrays.binarySearch(neighbours[atom], 0, degrees[atom], other) >= 0;
+	}
+
+	// The following method adds an atom with no bonds to the end of the graph.
+	int addAtom() {
+		unshare();
+		if (size == neighbours.length) {
+			neighbours = Arrays.copyOf(neighbours, size * 2);
+			degrees = Arrays.copyOf(degrees, size * 2);
+		}
+		neighbours[size] = noNeighbours;
+		degrees[size] = 0;
+		compressed = null;
+		return size++;
+	}
+
+	/*
+	 * The following method removes an atom and its bonds. The last atom takes
+	 * its index, so only the atoms bonded to either of the two are touched.
+	 */
+	void removeAtom(int index) {
+		checkAtom(index);
+		unshare();
+		while (degrees[index] > 0)
+			disconnect(index, neighbours[index][degrees[index] - 1]);
+		int last = size - 1;
+		if (index != last) {
+			for (int k = 0; k < degrees[last]; ++k) {
+				int other = neighbours[last][k];
+				removeNeighbour(other, last);
+				insertNeighbour(other, index);
+			}
+			neighbours[index] = neighbours[last];
+			degrees[index] = degrees[last];
+		}
+		neighbours[last] = null;
+		degrees[last] = 0;
+		size = last;
+		compressed = null;
+	}
+
+	void connect(int atom, int other) {
+		checkAtom(atom);
+		checkAtom(other);
+		if (atom == other)
+			throw new IllegalArgumentException("An atom cannot bond to itself.");
+		if (bonds(atom, other))
+			throw new IllegalArgumentException("Atoms " + atom + " and " + other + " are already bonded.");
+		unshare();
+		insertNeighbour(atom, other);
+		insertNeighbour(other, atom);
+		compressed = null;
+	}
+
+	void disconnect(int atom, int other) {
+		unshare();
+		removeNeighbour(atom, other);
+		removeNeighbour(other, atom);
+		compressed = null;
+	}
+
+	private void insertNeighbour(int atom, int other) {
+		int[] list = neighbours[atom];
+		int degree = degrees[atom];
+		if (degree == list.length)
+			list = neighbours[atom] = Arrays.copyOf(list, degree == 0 ? 4 : degree * 2);
+		int position = -Arrays.binarySearch(list, 0, degree, other) - 1;
+		System.arraycopy(list, position, list, position + 1, degree - position);
+		list[position] = other;
+		degrees[atom] = degree + 1;
+	}
+
+	private void removeNeighbour(int atom, int other) {
+		int[] list = neighbours[atom];
+		int degree = degrees[atom];
+		int position = Arrays.binarySearch(list, 0, degree, other);
+		if (position < 0)
+			throw new IllegalArgumentException("Atoms " + atom + " and " + other + " are not bonded.");
+		System.arraycopy(list, position + 1, list, position, degree - position - 1);
+		degrees[atom] = degree - 1;
+	}
+
+	private void checkAtom(int atom) {
+		if (atom < 0 || atom >= size)
+			throw new IndexOutOfBoundsException("Atom " + atom);
+	}
+
+	/*
+	 * The following method packs the graph into compressed sparse rows. The
+	 * result does not change when the graph changes afterwards.
+	 */
+	CompressedBonds compress() {
+		if (compressed != null)
+			return compressed;
+		int[] offsets = new int[size + 1];
+		for (int i = 0; i < size; ++i)
+			offsets[i + 1] = offsets[i] + degrees[i];
+		int[] targets = new int[offsets[size]];
+		for (int i = 0; i < size; ++i)
+			System.arraycopy(neighbours[i], 0, targets, offsets[i], degrees[i]);
+		compressed = new CompressedBonds(offsets, targets);
+		return compressed;
+	}
+}
+
+/**
+ * The following class holds the bonds of a molecule in compressed sparse rows.
+ * The bonds of atom i occupy the slots from offsets[i] up to offsets[i + 1] in
+ * ascending order of the atom bonded to. Each bond appears once from each of
+ * its atoms, and mirrors gives the slot of the same bond seen from the other
+ * atom. Objects of this class must never be changed after they are
+ * constructed.
+ */
+final class CompressedBonds {
+	final int[] offsets;
+	final int[] targets;
+	final int[] mirrors;
+
+	CompressedBonds(int[] offsets, int[] targets) {
+		this.offsets = offsets;
+		this.targets = targets;
+		mirrors = new int[targets.length];
+		/*
+		 * Since every row is in ascending order, visiting the atoms in
+		 * ascending order finds the bonds of each atom in the same order they
+		 * appear in its own row.
+		 */
+		int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+		for (int i = 0; i < offsets.length - 1; ++i)
+			for (int slot = offsets[i]; slot < offsets[i + 1]; ++slot)
+				mirrors[slot] = next[targets[slot]]++;
+	}
+
+	int size() {
+		return offsets.length - 1;
+	}
+
+	int degree(int atom) {
+		return offsets[atom + 1] - offsets[atom];
+	}
+
+	int slotCount() {
+		return targets.length;
+	}
+}
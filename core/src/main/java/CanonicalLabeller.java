@@ -0,0 +1,477 @@
+import java.util.Arrays;
+
+/*
+ * The following class numbers the atoms of a molecule so that two molecules
+ * with the same structure get the same numbering, whatever order their atoms
+ * were listed in. Each connected part of the molecule is numbered on its own,
+ * and the parts are then put in the order of their descriptions, so a
+ * molecule made of many identical parts costs no more than the parts do one
+ * by one. Within a part, the atoms are first sorted into classes by element
+ * and number of bonds, and a class is split by how many of its atoms' bonds go
+ * to another class, as in the Morgan algorithm, until no class splits any
+ * further. Atoms that still share a class are symmetric as far as the
+ * refinement can tell, so each of them is tried in turn as the first of its
+ * class, and the numbering that gives the smallest description of the part
+ * is kept. Atoms bonded to exactly the same atoms, such as the hydrogens of
+ * one carbon, can be swapped without changing anything, so only one of them
+ * is tried. Whenever two numberings give the same description, the molecule
+ * has a symmetry that maps one onto the other, and atoms that symmetry maps
+ * onto each other are not tried twice either. Every numbering that could be
+ * the smallest is tried, so the result never depends on the order of the
+ * atoms.
+ */
+final class CanonicalLabeller {
+	/*
+	 * At most this many symmetries are kept. A symmetry only saves tries, so
+	 * the ones found after these are dropped without changing the result.
+	 */
+	static final int symmetryLimit = 64;
+	private final int[] atomicNumbers;
+	private final CompressedBonds bonds;
+	private final int size;
+	private int[] bestCode;
+	private int[] bestLabels;
+	// The following array holds the symmetries found so far, each as the atom every atom maps to.
+	private final int[][] symmetries = new int[symmetryLimit][];
+	private int symmetryCount;
+	/*
+	 * The following arrays are reused by every refinement: how many bonds each
+	 * atom has to the splitting class, the atoms and classes that have any,
+	 * and the classes still waiting to split the others, each known by the
+	 * position it starts at.
+	 */
+	private final int[] counts, touchedAtoms, touchedClasses, touchedInClass, placedInClass, waiting;
+	private final boolean[] isWaiting;
+	private int waitingCount;
+	private final long[] keys;
+
+	CanonicalLabeller(int[] atomicNumbers, CompressedBonds bonds) {
+		if (atomicNumbers.length != bonds.size())
+			throw new IllegalArgumentException("There must be exactly one atomic number for every atom.");
+		this.atomicNumbers = atomicNumbers;
+		this.bonds = bonds;
+		size = atomicNumbers.length;
+		counts = new int[size];
+		touchedAtoms = new int[size];
+		touchedClasses = new int[size];
+		touchedInClass = new int[size];
+		placedInClass = new int[size];
+		waiting = new int[size];
+		isWaiting = new boolean[size];
+		keys = new long[size];
+	}
+
+	/*
+	 * The following method returns the canonical number of every atom. The
+	 * description the numbering gives is then available from code.
+	 */
+	int[] labels() {
+		if (bestLabels != null)
+			return bestLabels;
+		int[] components = new int[size];
+		int componentCount = components(components);
+		if (componentCount <= 1)
+			search(initialClasses(), new int[0]);
+		else
+			labelComponents(components, componentCount);
+		return bestLabels;
+	}
+
+	/*
+	 * The following method returns the description of the molecule under the
+	 * canonical numbering: the number of atoms, the atomic number of every atom
+	 * in that order, then every bond as the pair of its atoms, lower first, in
+	 * order.
+	 */
+	int[] code() {
+		labels();
+		return bestCode;
+	}
+
+	// The following method numbers the connected parts of the molecule from 0, and returns how many there are.
+	private int components(int[] components) {
+		Arrays.fill(components, -1);
+		int[] queue = new int[size];
+		int componentCount = 0;
+		for (int start = 0; start < size; ++start) {
+			if (components[start] >= 0)
+				continue;
+			int head = 0, tail = 0;
+			queue[tail++] = start;
+			components[start] = componentCount;
+			while (head < tail) {
+				int atom = queue[head++];
+				for (int slot = bonds.offsets[atom]; slot < bonds.offsets[atom + 1]; ++slot)
+					if (components[bonds.targets[slot]] < 0) {
+						components[bonds.targets[slot]] = componentCount;
+						queue[tail++] = bonds.targets[slot];
+					}
+			}
+			++componentCount;
+		}
+		return componentCount;
+	}
+
+	/*
+	 * The following method numbers every part on its own and gives the parts
+	 * consecutive numbers in the order of their descriptions. Identical parts
+	 * have identical descriptions, so it makes no difference which of them
+	 * comes first.
+	 */
+	private void labelComponents(int[] components, int componentCount) {
+		// The atoms are sorted by part, keeping their order within each, so every row stays in ascending order.
+		int[] starts = new int[componentCount + 1];
+		for (int i = 0; i < size; ++i)
+			++starts[components[i] + 1];
+		for (int c = 0; c < componentCount; ++c)
+			starts[c + 1] += starts[c];
+		int[] atoms = new int[size];
+		int[] local = new int[size];
+		int[] filled = Arrays.copyOf(starts, componentCount);
+		for (int i = 0; i < size; ++i) {
+			local[i] = filled[components[i]] - starts[components[i]];
+			atoms[filled[components[i]]++] = i;
+		}
+		int[][] partLabels = new int[componentCount][];
+		int[][] partCodes = new int[componentCount][];
+		for (int c = 0; c < componentCount; ++c) {
+			int partSize = starts[c + 1] - starts[c];
+			int[] partAtomicNumbers = new int[partSize];
+			int[] offsets = new int[partSize + 1];
+			for (int k = 0; k < partSize; ++k) {
+				int atom = atoms[starts[c] + k];
+				partAtomicNumbers[k] = atomicNumbers[atom];
+				offsets[k + 1] = offsets[k] + bonds.degree(atom);
+			}
+			int[] targets = new int[offsets[partSize]];
+			for (int k = 0; k < partSize; ++k) {
+				int atom = atoms[starts[c] + k];
+				for (int slot = bonds.offsets[atom]; slot < bonds.offsets[atom + 1]; ++slot)
+					targets[offsets[k] + slot - bonds.offsets[atom]] = local[bonds.targets[slot]];
+			}
+			CanonicalLabeller part = new CanonicalLabeller(partAtomicNumbers, new CompressedBonds(offsets, targets));
+			partLabels[c] = part.labels();
+			partCodes[c] = part.code();
+		}
+		Integer[] order = new Integer[componentCount];
+		for (int c = 0; c < componentCount; ++c)
+			order[c] = c;
+		Arrays.sort(order, (p, q) -> compare(partCodes[p], partCodes[q]));
+		int[] labels = new int[size];
+		int first = 0;
+		for (int c : order) {
+			for (int k = starts[c]; k < starts[c + 1]; ++k)
+				labels[atoms[k]] = first + partLabels[c][k - starts[c]];
+			first += starts[c + 1] - starts[c];
+		}
+		bestLabels = labels;
+		bestCode = code(labels);
+	}
+
+	/*
+	 * The following method sorts the atoms into classes by element and number
+	 * of bonds, and refines them. Each atom is sorted by a key holding its
+	 * atomic number, its number of bonds and the atom itself.
+	 */
+	private Classes initialClasses() {
+		Classes classes = new Classes(size);
+		for (int i = 0; i < size; ++i)
+			keys[i] = (long) atomicNumbers[i] << 55 | (long) bonds.degree(i) << 31 | i;
+		Arrays.sort(keys, 0, size);
+		for (int k = 0; k < size; ++k) {
+			int atom = (int) (keys[k] & Integer.MAX_VALUE);
+			boolean same = k > 0 && keys[k] >>> 31 == keys[k - 1] >>> 31;
+			int cell = same ? classes.ranks[classes.atoms[k - 1]] : k;
+			classes.place(atom, k);
+			classes.ranks[atom] = cell;
+			classes.ends[cell] = k + 1;
+			if (!same) {
+				++classes.count;
+				wait(cell);
+			}
+		}
+		refine(classes);
+		return classes;
+	}
+
+	/*
+	 * The following method tries every way of breaking the first tie in the
+	 * classes. The atoms already put first in their class on the way here are
+	 * listed in fixed.
+	 */
+	private void search(Classes classes, int[] fixed) {
+		int cell = classes.firstShared();
+		if (cell < 0) {
+			int[] code = code(classes.ranks);
+			int comparison = bestCode == null ? -1 : compare(code, bestCode);
+			if (comparison < 0) {
+				bestCode = code;
+				bestLabels = classes.ranks;
+			} else if (comparison == 0)
+				addSymmetry(classes.ranks);
+			return;
+		}
+		int end = classes.ends[cell];
+		int[] tried = new int[end - cell];
+		int triedCount = 0;
+		int[] orbits = null;
+		int knownSymmetries = -1;
+		next: for (int k = cell; k < end; ++k) {
+			int v = classes.atoms[k];
+			if (knownSymmetries != symmetryCount) {
+				orbits = orbits(fixed);
+				knownSymmetries = symmetryCount;
+			}
+			for (int t = 0; t < triedCount; ++t)
+				if (sameNeighbours(tried[t], v) || find(orbits, tried[t]) == find(orbits, v))
+					continue next;
+			tried[triedCount++] = v;
+			// Atom v is put first in its class, ahead of the atoms it is tied with.
+			Classes individualised = classes.copy();
+			individualised.split(v);
+			// The class was not waiting, so only the smaller part, v alone, needs to.
+			wait(cell);
+			refine(individualised);
+			int[] path = Arrays.copyOf(fixed, fixed.length + 1);
+			path[fixed.length] = v;
+			search(individualised, path);
+		}
+	}
+
+	// The following method records the symmetry mapping the best numbering onto an equally good one.
+	private void addSymmetry(int[] labels) {
+		if (symmetryCount == symmetryLimit)
+			return;
+		int[] atomWithLabel = new int[size];
+		for (int i = 0; i < size; ++i)
+			atomWithLabel[bestLabels[i]] = i;
+		int[] symmetry = new int[size];
+		for (int i = 0; i < size; ++i)
+			symmetry[i] = atomWithLabel[labels[i]];
+		symmetries[symmetryCount++] = symmetry;
+	}
+
+	/*
+	 * The following method joins the atoms that the known symmetries leaving
+	 * every fixed atom in place map onto each other. Only those symmetries can
+	 * be used below the point where the fixed atoms were chosen.
+	 */
+	private int[] orbits(int[] fixed) {
+		int[] parents = new int[size];
+		for (int i = 0; i < size; ++i)
+			parents[i] = i;
+		symmetry: for (int s = 0; s < symmetryCount; ++s) {
+			int[] symmetry = symmetries[s];
+			for (int f : fixed)
+				if (symmetry[f] != f)
+					continue symmetry;
+			for (int i = 0; i < size; ++i) {
+				int a = find(parents, i), b = find(parents, symmetry[i]);
+				if (a != b)
+					parents[Math.max(a, b)] = Math.min(a, b);
+			}
+		}
+		return parents;
+	}
+
+	private static int find(int[] parents, int atom) {
+		while (parents[atom] != atom)
+			atom = parents[atom] = parents[parents[atom]];
+		return atom;
+	}
+
+	private boolean sameNeighbours(int atom, int other) {
+		if (bonds.degree(atom) != bonds.degree(other))
+			return false;
+		return Arrays.equals(bonds.targets, bonds.offsets[atom], bonds.offsets[atom + 1], bonds.targets,
+				bonds.offsets[other], bonds.offsets[other + 1]);
+	}
+
+	// The following method puts a class in line to split the others, unless it is already waiting.
+	private void wait(int cell) {
+		if (isWaiting[cell])
+			return;
+		isWaiting[cell] = true;
+		waiting[waitingCount++] = cell;
+	}
+
+	/*
+	 * The following method splits the classes until the atoms of every class
+	 * have as many bonds to each class as each other. Only the classes that
+	 * have split since they were last used are used again, each by counting
+	 * the bonds of its atoms, so no atom is looked at unless a class it bonds
+	 * to has changed. A rank is the position its class starts at, so
+	 * splitting a class never changes the order of the others.
+	 */
+	private void refine(Classes classes) {
+		while (waitingCount > 0 && classes.count < size) {
+			int splitter = waiting[--waitingCount];
+			isWaiting[splitter] = false;
+			int touched = 0, touchedClassCount = 0;
+			for (int k = splitter; k < classes.ends[splitter]; ++k) {
+				int atom = classes.atoms[k];
+				for (int slot = bonds.offsets[atom]; slot < bonds.offsets[atom + 1]; ++slot) {
+					int other = bonds.targets[slot];
+					if (counts[other]++ == 0) {
+						touchedAtoms[touched++] = other;
+						if (touchedInClass[classes.ranks[other]]++ == 0)
+							touchedClasses[touchedClassCount++] = classes.ranks[other];
+					}
+				}
+			}
+			// The classes are split in order, so the classes waiting afterwards do not depend on the atom order.
+			Arrays.sort(touchedClasses, 0, touchedClassCount);
+			for (int t = 0; t < touched; ++t) {
+				// Every touched atom is moved to the end of its class.
+				int atom = touchedAtoms[t], cell = classes.ranks[atom];
+				int slot = classes.ends[cell] - touchedInClass[cell] + placedInClass[cell]++;
+				classes.move(atom, slot);
+			}
+			for (int c = 0; c < touchedClassCount; ++c) {
+				int cell = touchedClasses[c];
+				split(classes, cell, classes.ends[cell] - touchedInClass[cell]);
+				touchedInClass[cell] = placedInClass[cell] = 0;
+			}
+			for (int t = 0; t < touched; ++t)
+				counts[touchedAtoms[t]] = 0;
+		}
+		while (waitingCount > 0)
+			isWaiting[waiting[--waitingCount]] = false;
+	}
+
+	/*
+	 * The following method splits a class whose touched atoms start at the
+	 * given position by the number of bonds each has to the splitting class.
+	 * The untouched atoms come first and the rest follow by that number. If
+	 * the class was waiting every part waits; otherwise the largest part is
+	 * left out, since what it would split is already split by the others and
+	 * the class they came from.
+	 */
+	private void split(Classes classes, int cell, int touchedStart) {
+		int n = classes.ends[cell] - touchedStart;
+		for (int k = 0; k < n; ++k) {
+			int atom = classes.atoms[touchedStart + k];
+			keys[k] = (long) counts[atom] << 32 | atom;
+		}
+		Arrays.sort(keys, 0, n);
+		int parts = touchedStart > cell ? 1 : 0;
+		int largest = cell, largestSize = touchedStart - cell;
+		for (int k = 0; k < n;) {
+			int start = k;
+			while (k < n && keys[k] >>> 32 == keys[start] >>> 32)
+				++k;
+			++parts;
+			if (k - start > largestSize) {
+				largest = touchedStart + start;
+				largestSize = k - start;
+			}
+		}
+		if (parts == 1)
+			return;
+		boolean wasWaiting = isWaiting[cell];
+		classes.count += parts - 1;
+		if (touchedStart > cell)
+			classes.ends[cell] = touchedStart;
+		for (int k = 0; k < n;) {
+			int start = k, part = touchedStart + k;
+			while (k < n && keys[k] >>> 32 == keys[start] >>> 32) {
+				int atom = (int) keys[k];
+				classes.place(atom, touchedStart + k++);
+				classes.ranks[atom] = part;
+			}
+			classes.ends[part] = touchedStart + k;
+			if (part != cell && (wasWaiting || part != largest))
+				wait(part);
+		}
+		// The part at the start of the class keeps its place in line, or takes one unless it is the largest.
+		if (!wasWaiting && largest != cell)
+			wait(cell);
+	}
+
+	private int[] code(int[] labels) {
+		int bondCount = bonds.slotCount() / 2;
+		int[] code = new int[1 + size + 2 * bondCount];
+		code[0] = size;
+		for (int i = 0; i < size; ++i)
+			code[1 + labels[i]] = atomicNumbers[i];
+		long[] pairs = new long[bondCount];
+		int b = 0;
+		for (int i = 0; i < size; ++i)
+			for (int slot = bonds.offsets[i]; slot < bonds.offsets[i + 1]; ++slot)
+				if (bonds.targets[slot] > i) {
+					int p = labels[i], q = labels[bonds.targets[slot]];
+					pairs[b++] = (long) Math.min(p, q) << 32 | Math.max(p, q);
+				}
+		Arrays.sort(pairs);
+		for (b = 0; b < bondCount; ++b) {
+			code[1 + size + 2 * b] = (int) (pairs[b] >>> 32);
+			code[2 + size + 2 * b] = (int) pairs[b];
+		}
+		return code;
+	}
+
+	private static int compare(int[] code, int[] other) {
+		return Arrays.compare(code, other);
+	}
+
+	/*
+	 * The following class holds the atoms sorted into classes. The atoms of a
+	 * class are next to each other in atoms, from the position that is the
+	 * rank of the class up to its end.
+	 */
+	private static final class Classes {
+		final int[] ranks, atoms, positions, ends;
+		int count;
+
+		Classes(int size) {
+			ranks = new int[size];
+			atoms = new int[size];
+			positions = new int[size];
+			ends = new int[size];
+		}
+
+		private Classes(Classes other) {
+			ranks = other.ranks.clone();
+			atoms = other.atoms.clone();
+			positions = other.positions.clone();
+			ends = other.ends.clone();
+			count = other.count;
+		}
+
+		Classes copy() {
+			return new Classes(this);
+		}
+
+		// The following method swaps an atom into a position of its class.
+		void move(int atom, int position) {
+			int other = atoms[position];
+			atoms[positions[atom]] = other;
+			positions[other] = positions[atom];
+			place(atom, position);
+		}
+
+		void place(int atom, int position) {
+			atoms[position] = atom;
+			positions[atom] = position;
+		}
+
+		// The following method puts an atom in a class of its own at the start of its class.
+		void split(int atom) {
+			int cell = ranks[atom];
+			move(atom, cell);
+			for (int k = cell + 1; k < ends[cell]; ++k)
+				ranks[atoms[k]] = cell + 1;
+			ends[cell + 1] = ends[cell];
+			ends[cell] = cell + 1;
+			++count;
+		}
+
+		// The following method returns the first class with more than one atom, or -1.
+		int firstShared() {
+			for (int cell = 0; cell < ranks.length; cell = ends[cell])
+				if (ends[cell] - cell > 1)
+					return cell;
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,271 @@
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+public enum ChemicalElement {
+	/**
+	 * Each chemical element is best represented by an enumeration, since each
+	 * one is in a sequence of ascending atomic numbers.
+	 */
+	None, Hydrogen, Helium, Lithium, Beryllium, Boron, Carbon, Nitrogen, Oxygen, Fluorine, Neon, Sodium, Magnesium, Aluminum, Silicon, Phosphorus, Sulfur, Chlorine, Argon, Potassium, Calcium, Scandium, Titanium, Vanadium, Chromium, Manganese, Iron, Cobalt, Nickel, Copper, Zinc, Gallium, Germanium, Arsenic, Selenium, Bromine, Krypton, Rubidium, Strontium, Yttrium, Zirconium, Niobium, Molybdenum, Technetium, Ruthenium, Rhodium, Palladium, Silver, Cadmium, Indium, Tin, Antimony, Tellurium, Iodine, Xenon, Cesium, Barium, Lanthanum, Cerium, Praseodymium, Neodymium, Promethium, Samarium, Europium, Gadolinium, Terbium, Dysprosium, Holmium, Erbium, Thulium, Ytterbium, Lutetium, Hafnium, Tantalum, Tungsten, Rhenium, Osmium, Iridium, Platinum, Gold, Mercury, Thallium, Lead, Bismuth, Polonium, Astatine, Radon, Francium, Radium, Actinium, Thorium, Protactinium, Uranium, Neptunium, Plutonium, Americium, Curium, Berkelium, Californium, Einsteinium, Fermium, Mendelevium, Nobelium, Lawrencium, Rutherfordium, Dubnium, Seaborgium, Bohrium, Hassium, Meitnerium, Darmstadtium, Roentgenium, Ununbium, Ununtrium, Ununquadium, Ununpentiun, Ununhexium, Ununseptium, Ununoctium, Ununnonium, Unundecium;
+
+	/*
+	 * The values method clones the array of constants every time it is called,
+	 * so a single copy is kept for looking up elements by atomic number.
+	 */
+	private static final ChemicalElement[] elements = values();
+
+	// The following method looks up an element based on an atomic number.
+	public static ChemicalElement lookUpChemicalElementByOrdinal(int ordinal) {
+		return elements[ordinal];
+	}
+
+	public static int findAtomicNumberByElement(ChemicalElement element) {
+		/*
+		 * The atomic number of every element is its position in the
+		 * enumeration.
+		 */
+		return element.ordinal();
+	}
+
+	/**
+	 * This table associates each sequential element with the number of
+	 * electrons new in orbit in its s, p, d, f orbits respectively. For
+	 * example, Chromium has one less electron in its s orbit than Vanadium, but
+	 * two more in its d orbit. It is indexed by atomic number, and each change
+	 * is packed into two bits of a byte, offset by one so that a change of -1
+	 * can be stored.
+	 */
+	private static final byte[] orbitalChanges = { packOrbitalChange(0, 0, 0, 0), // None
+			packOrbitalChange(1, 0, 0, 0), // Hydrogen
+			packOrbitalChange(1, 0, 0, 0), // Helium
+			packOrbitalChange(1, 0, 0, 0), // Lithium
+			packOrbitalChange(1, 0, 0, 0), // Beryllium
+			packOrbitalChange(0, 1, 0, 0), // Boron
+			packOrbitalChange(0, 1, 0, 0), // Carbon
+			packOrbitalChange(0, 1, 0, 0), // Nitrogen
+			packOrbitalChange(0, 1, 0, 0), // Oxygen
+			packOrbitalChange(0, 1, 0, 0), // Fluorine
+			packOrbitalChange(0, 1, 0, 0), // Neon
+			packOrbitalChange(1, 0, 0, 0), // Sodium
+			packOrbitalChange(1, 0, 0, 0), // Magnesium
+			packOrbitalChange(0, 1, 0, 0), // Aluminum
+			packOrbitalChange(0, 1, 0, 0), // Silicon
+			packOrbitalChange(0, 1, 0, 0), // Phosphorus
+			packOrbitalChange(0, 1, 0, 0), // Sulfur
+			packOrbitalChange(0, 1, 0, 0), // Chlorine
+			packOrbitalChange(0, 1, 0, 0), // Argon
+			packOrbitalChange(1, 0, 0, 0), // Potassium
+			packOrbitalChange(1, 0, 0, 0), // Calcium
+			packOrbitalChange(0, 0, 1, 0), // Scandium
+			packOrbitalChange(0, 0, 1, 0), // Titanium
+			packOrbitalChange(0, 0, 1, 0), // Vanadium
+			packOrbitalChange(-1, 0, 2, 0), // Chromium
+			packOrbitalChange(1, 0, 0, 0), // Manganese
+			packOrbitalChange(0, 0, 1, 0), // Iron
+			packOrbitalChange(0, 0, 1, 0), // Cobalt
+			packOrbitalChange(0, 0, 1, 0), // Nickel
+			packOrbitalChange(-1, 0, 2, 0), // Copper
+			packOrbitalChange(1, 0, 0, 0), // Zinc
+			packOrbitalChange(0, 1, 0, 0), // Gallium
+			packOrbitalChange(0, 1, 0, 0), // Germanium
+			packOrbitalChange(0, 1, 0, 0), // Arsenic
+			packOrbitalChange(0, 1, 0, 0), // Selenium
+			packOrbitalChange(0, 1, 0, 0), // Bromine
+			packOrbitalChange(0, 1, 0, 0), // Krypton
+			packOrbitalChange(1, 0, 0, 0), // Rubidium
+			packOrbitalChange(1, 0, 0, 0), // Strontium
+			packOrbitalChange(0, 0, 1, 0), // Yttrium
+			packOrbitalChange(0, 0, 1, 0), // Zirconium
+			packOrbitalChange(-1, 0, 2, 0), // Niobium
+			packOrbitalChange(0, 0, 1, 0), // Molybdenum
+			packOrbitalChange(1, 0, 0, 0), // Technetium
+			packOrbitalChange(-1, 0, 2, 0), // Ruthenium
+			packOrbitalChange(0, 0, 1, 0), // Rhodium
+			packOrbitalChange(-1, 0, 2, 0), // Palladium
+			packOrbitalChange(1, 0, 0, 0), // Silver
+			packOrbitalChange(0, 1, 0, 0), // Cadmium
+			packOrbitalChange(0, 1, 0, 0), // Indium
+			packOrbitalChange(0, 1, 0, 0), // Tin
+			packOrbitalChange(0, 1, 0, 0), // Antimony
+			packOrbitalChange(0, 1, 0, 0), // Tellurium
+			packOrbitalChange(0, 1, 0, 0), // Iodine
+			packOrbitalChange(0, 1, 0, 0), // Xenon
+			packOrbitalChange(1, 0, 0, 0), // Cesium
+			packOrbitalChange(1, 0, 0, 0), // Barium
+			packOrbitalChange(0, 0, 1, 0), // Lanthanum
+			packOrbitalChange(0, 0, 0, 1), // Cerium
+			packOrbitalChange(0, 0, -1, 2), // Praseodymium
+			packOrbitalChange(0, 0, 0, 1), // Neodymium
+			packOrbitalChange(0, 0, 0, 1), // Promethium
+			packOrbitalChange(0, 0, 0, 1), // Samarium
+			packOrbitalChange(0, 0, 0, 1), // Europium
+			packOrbitalChange(0, 0, 1, 0), // Gadolinium
+			packOrbitalChange(0, 0, -1, 2), // Terbium
+			packOrbitalChange(0, 0, 0, 1), // Dysprosium
+			packOrbitalChange(0, 0, 0, 1), // Holmium
+			packOrbitalChange(0, 0, 0, 1), // Erbium
+			packOrbitalChange(0, 0, 0, 1), // Thulium
+			packOrbitalChange(0, 0, 0, 1), // Ytterbium
+			packOrbitalChange(0, 0, 1, 0), // Lutetium
+			packOrbitalChange(0, 0, 1, 0), // Hafnium
+			packOrbitalChange(0, 0, 1, 0), // Tantalum
+			packOrbitalChange(0, 0, 1, 0), // Tungsten
+			packOrbitalChange(0, 0, 1, 0), // Rhenium
+			packOrbitalChange(0, 0, 1, 0), // Osmium
+			packOrbitalChange(0, 0, 1, 0), // Iridium
+			packOrbitalChange(-1, 0, 2, 0), // Platinum
+			packOrbitalChange(0, 0, 1, 0), // Gold
+			packOrbitalChange(1, 0, 0, 0), // Mercury
+			packOrbitalChange(0, 1, 0, 0), // Thallium
+			packOrbitalChange(0, 1, 0, 0), // Lead
+			packOrbitalChange(0, 1, 0, 0), // Bismuth
+			packOrbitalChange(0, 1, 0, 0), // Polonium
+			packOrbitalChange(0, 1, 0, 0), // Astatine
+			packOrbitalChange(0, 1, 0, 0), // Radon
+			packOrbitalChange(1, 0, 0, 0), // Francium
+			packOrbitalChange(1, 0, 0, 0), // Radium
+			packOrbitalChange(0, 0, 1, 0), // Actinium
+			packOrbitalChange(0, 0, 1, 0), // Thorium
+			packOrbitalChange(0, 0, -1, 2), // Protactinium
+			packOrbitalChange(0, 0, 0, 1), // Uranium
+			packOrbitalChange(0, 0, 0, 1), // Neptunium
+			packOrbitalChange(0, 0, -1, 2), // Plutonium
+			packOrbitalChange(0, 0, 0, 1), // Americium
+			packOrbitalChange(0, 0, 1, 0), // Curium
+			packOrbitalChange(0, 0, -1, 2), // Berkelium
+			packOrbitalChange(0, 0, 0, 1), // Californium
+			packOrbitalChange(0, 0, 0, 1), // Einsteinium
+			packOrbitalChange(0, 0, 0, 1), // Fermium
+			packOrbitalChange(0, 0, 0, 1), // Mendelevium
+			packOrbitalChange(0, 0, 0, 1), // Nobelium
+			packOrbitalChange(0, 0, 1, 0), // Lawrencium
+			packOrbitalChange(0, 0, 1, 0), // Rutherfordium
+			packOrbitalChange(0, 0, 1, 0), // Dubnium
+			packOrbitalChange(0, 0, 1, 0), // Seaborgium
+			packOrbitalChange(0, 0, 1, 0), // Bohrium
+			packOrbitalChange(0, 0, 1, 0), // Hassium
+			packOrbitalChange(0, 0, 1, 0), // Meitnerium
+			packOrbitalChange(0, 0, 1, 0), // Darmstadtium
+			packOrbitalChange(0, 0, 1, 0), // Roentgenium
+			packOrbitalChange(0, 0, 1, 0), // Ununbium
+			packOrbitalChange(0, 0, 1, 0), // Ununtrium
+			packOrbitalChange(0, 0, 1, 0), // Ununquadium
+			packOrbitalChange(0, 0, 1, 0), // Ununpentiun
+			packOrbitalChange(0, 0, 1, 0), // Ununhexium
+			packOrbitalChange(0, 0, 1, 0), // Ununseptium
+			packOrbitalChange(0, 0, 1, 0), // Ununoctium
+			packOrbitalChange(0, 0, 1, 0), // Ununnonium
+			packOrbitalChange(0, 0, 1, 0) // Unundecium
+	};
+
+	// The following table holds the symbol of each element by atomic number.
+	private static final String[] elementSymbols = { null,
+			"H", "He", "Li", "Be", "B", "C", "N", "O", "F", "Ne", "Na", "Mg",
+			"Al", "Si", "P", "S", "Cl", "Ar", "K", "Ca", "Sc", "Ti", "Va", "Cr",
+			"Mn", "Fe", "Co", "Ni", "Cu", "Zn", "Ga", "Ge", "As", "Se", "Br", "Kr",
+			"Rb", "Sr", "Y", "Zr", "Nb", "Mo", "Tc", "Ru", "Rh", "Pd", "Ag", "Cd",
+			"In", "Sn", "Sb", "Te", "I", "Xe", "Cs", "Ba", "La", "Ce", "Pr", "Nd",
+			"Pm", "Sm", "Eu", "Gd", "Tb", "Dy", "Ho", "Er", "Tm", "Yb", "Lu", "Hf",
+			"Ta", "W", "Re", "Os", "Ir", "Pt", "Au", "Hg", "Tl", "Pb", "Bi", "Po",
+			"At", "Rn", "Fr", "Ra", "Ac", "Th", "Pa", "U", "Np", "Pu", "Am", "Cm",
+			"Bk", "Cf", "Es", "Fm", "Md", "No", "Lr", "Rf", "Db", "Sg", "Bh", "Hs",
+			"Mt", "Ds", "Rg", "Uub", "Uut", "Uuq", "Uup", "Uuh", "Uus", "Uuo", "Uun", "Uud" };
+
+	// The following table holds the diameter of each element in picometers.
+	private static final short[] diametersInPicometers = { 0,
+			53, 31, 167, 112, 87, 67, 56, 48, 42, 38, 190, 145,
+			118, 111, 98, 88, 79, 71, 243, 194, 184, 176, 171, 166,
+			161, 156, 152, 149, 145, 142, 136, 125, 114, 103, 94, 88,
+			265, 219, 212, 206, 198, 190, 183, 178, 173, 169, 165, 161,
+			156, 145, 133, 123, 115, 108, 298, 253, 1000, 1000, 247, 206,
+			205, 238, 231, 233, 225, 228, 226, 226, 222, 222, 217, 208,
+			200, 193, 188, 185, 180, 177, 174, 171, 156, 154, 143, 135,
+			127, 120, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000,
+			1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000,
+			1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000 };
+
+	private static final Map<String, ChemicalElement> symbolLookUp = new HashMap<String, ChemicalElement>();
+
+	static {
+		for (int n = 1; n < elementSymbols.length; ++n)
+			symbolLookUp.put(elementSymbols[n], elements[n]);
+	}
+
+	private static byte packOrbitalChange(int s, int p, int d, int f) {
+		return (byte) ((s + 1) | (p + 1) << 2 | (d + 1) << 4 | (f + 1) << 6);
+	}
+
+	private static int orbitalChange(int atomicNumber, int shift) {
+		return ((orbitalChanges[atomicNumber] >> shift) & 3) - 1;
+	}
+
+	static int s_OrbitalChange(int atomicNumber) {
+		return orbitalChange(atomicNumber, 0);
+	}
+
+	static int p_OrbitalChange(int atomicNumber) {
+		return orbitalChange(atomicNumber, 2);
+	}
+
+	static int d_OrbitalChange(int atomicNumber) {
+		return orbitalChange(atomicNumber, 4);
+	}
+
+	static int f_OrbitalChange(int atomicNumber) {
+		return orbitalChange(atomicNumber, 6);
+	}
+
+	static String symbolOf(int atomicNumber) {
+		return elementSymbols[atomicNumber];
+	}
+
+	// The following method looks up an element based on its symbol.
+	static ChemicalElement lookUpChemicalElementBySymbol(String symbol) {
+		return symbolLookUp.get(symbol);
+	}
+
+	static int diameterInPicometers(int atomicNumber) {
+		return diametersInPicometers[atomicNumber];
+	}
+
+	/*
+	 * The following three maps are read only views of the tables above. They
+	 * are built the first time one of them is requested.
+	 */
+	private static final class Views {
+		static final Map<ChemicalElement, OrbitalChangeVector> electronOrbitalMap;
+		static final Map<String, ChemicalElement> symbols = Collections.unmodifiableMap(symbolLookUp);
+		static final Map<ChemicalElement, Integer> atomicDiameters;
+
+		static {
+			EnumMap<ChemicalElement, OrbitalChangeVector> orbitalMap = new EnumMap<ChemicalElement, OrbitalChangeVector>(
+					ChemicalElement.class);
+			EnumMap<ChemicalElement, Integer> diameters = new EnumMap<ChemicalElement, Integer>(ChemicalElement.class);
+			for (int n = 1; n < elements.length; ++n) {
+				orbitalMap.put(elements[n], new OrbitalChangeVector(s_OrbitalChange(n), p_OrbitalChange(n),
+						d_OrbitalChange(n), f_OrbitalChange(n)));
+				diameters.put(elements[n], Integer.valueOf(diametersInPicometers[n]));
+			}
+			electronOrbitalMap = Collections.unmodifiableMap(orbitalMap);
+			atomicDiameters = Collections.unmodifiableMap(diameters);
+		}
+	}
+
+	static Map<ChemicalElement, OrbitalChangeVector> electronOrbitalMap() {
+		return Views.electronOrbitalMap;
+	}
+
+	/*
+	 * The following map maps element symbols with their corresponding
+	 * elements.
+	 */
+	static Map<String, ChemicalElement> symbols() {
+		return Views.symbols;
+	}
+
+	static Map<ChemicalElement, Integer> atomicDiameters() {
+		return Views.atomicDiameters;
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * The following class holds the coordinates of many atoms as three parallel
+ * arrays of doubles instead of one object per atom. Every transformation runs
+ * over the whole buffer in simple counted loops without allocation, which the
+ * just-in-time compiler turns into vector instructions where the processor has
+ * them.
+ */
+public final class CoordinateBuffer {
+	final double[] x;
+	final double[] y;
+	final double[] z;
+
+	public CoordinateBuffer(int size) {
+		x = new double[size];
+		y = new double[size];
+		z = new double[size];
+	}
+
+	public int size() {
+		return x.length;
+	}
+
+	public double getX(int atom) {
+		return x[atom];
+	}
+
+	public double getY(int atom) {
+		return y[atom];
+	}
+
+	public double getZ(int atom) {
+		return z[atom];
+	}
+
+	public void set(int atom, double x, double y, double z) {
+		this.x[atom] = x;
+		this.y[atom] = y;
+		this.z[atom] = z;
+	}
+
+	public CoordinateBuffer copy() {
+		CoordinateBuffer copy = new CoordinateBuffer(size());
+		System.arraycopy(x, 0, copy.x, 0, x.length);
+		System.arraycopy(y, 0, copy.y, 0, y.length);
+		System.arraycopy(z, 0, copy.z, 0, z.length);
+		return copy;
+	}
+
+	public void translate(double dx, double dy, double dz) {
+		int n = x.length;
+		for (int i = 0; i < n; ++i) {
+			x[i] += dx;
+			y[i] += dy;
+			z[i] += dz;
+		}
+	}
+
+	// The following method returns the average position of the atoms.
+	public double[] centroid() {
+		double sumX = 0, sumY = 0, sumZ = 0;
+		int n = x.length;
+		for (int i = 0; i < n; ++i) {
+			sumX += x[i];
+			sumY += y[i];
+			sumZ += z[i];
+		}
+		if (n == 0)
+			return new double[3];
+		return new double[] { sumX / n, sumY / n, sumZ / n };
+	}
+
+	/*
+	 * The following two methods turn every point around an axis through the
+	 * given centre by an angle in degrees, from the first named axis towards
+	 * the second.
+	 */
+	public void rotateXZ(double degrees, double centreX, double centreZ) {
+		double cos = Math.cos(Math.toRadians(degrees)), sin = Math.sin(Math.toRadians(degrees));
+		rotate(x, z, cos, sin, centreX, centreZ);
+	}
+
+	public void rotateYZ(double degrees, double centreY, double centreZ) {
+		double cos = Math.cos(Math.toRadians(degrees)), sin = Math.sin(Math.toRadians(degrees));
+		rotate(y, z, cos, sin, centreY, centreZ);
+	}
+
+	private static void rotate(double[] a, double[] b, double cos, double sin, double centreA, double centreB) {
+		int n = a.length;
+		for (int i = 0; i < n; ++i) {
+			double da = a[i] - centreA;
+			double db = b[i] - centreB;
+			a[i] = centreA + da * cos - db * sin;
+			b[i] = centreB + da * sin + db * cos;
+		}
+	}
+
+	/*
+	 * The following method applies a three by three matrix, given in row
+	 * order, to every point around the centre and writes the result into the
+	 * target buffer, which may be this one.
+	 */
+	public void transform(double[] matrix, double[] centre, CoordinateBuffer target) {
+		double m00 = matrix[0], m01 = matrix[1], m02 = matrix[2];
+		double m10 = matrix[3], m11 = matrix[4], m12 = matrix[5];
+		double m20 = matrix[6], m21 = matrix[7], m22 = matrix[8];
+		double cx = centre[0], cy = centre[1], cz = centre[2];
+		double[] tx = target.x, ty = target.y, tz = target.z;
+		int n = x.length;
+		for (int i = 0; i < n; ++i) {
+			double dx = x[i] - cx, dy = y[i] - cy, dz = z[i] - cz;
+			tx[i] = cx + m00 * dx + m01 * dy + m02 * dz;
+			ty[i] = cy + m10 * dx + m11 * dy + m12 * dz;
+			tz[i] = cz + m20 * dx + m21 * dy + m22 * dz;
+		}
+	}
+
+	/*
+	 * The following method projects every point for a viewer at the given
+	 * depth. The screen position is the x and y coordinate, and the scale
+	 * shrinks with the distance from the viewer. Points behind the viewer get
+	 * a scale of zero.
+	 */
+	public void project(double viewerZ, double[] screenX, double[] screenY, double[] scale) {
+		int n = x.length;
+		for (int i = 0; i < n; ++i) {
+			screenX[i] = x[i];
+			screenY[i] = y[i];
+			scale[i] = viewerZ / Math.abs(viewerZ - z[i]);
+		}
+		for (int i = 0; i < n; ++i)
+			if (z[i] < -viewerZ)
+				scale[i] = 0.0;
+	}
+
+	Point3D_Space[] toPoints() {
+		Point3D_Space[] points = new Point3D_Space[x.length];
+		for (int i = 0; i < x.length; ++i)
+			if (!Double.isNaN(x[i]))
+				points[i] = new Point3D_Space(new AccurateNumber(x[i]), new AccurateNumber(y[i]),
+						new AccurateNumber(z[i]));
+		return points;
+	}
+}
@@ -0,0 +1,114 @@
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * The following class holds the arrangement of electrons orbiting the shells
+ * around an atom of a particular atomic number. Every atom of the same element
+ * has the same arrangement, so each one is computed at most once and shared by
+ * all atoms of that element. Objects of this class must never be changed after
+ * they are constructed.
+ */
+final class ElectronConfiguration {
+	private static final AtomicReferenceArray<ElectronConfiguration> configurations = new AtomicReferenceArray<ElectronConfiguration>(
+			121);
+	private final int atomicNumber;
+	/*
+	 * Each orbital is stored as a bitmask of the electron positions that are
+	 * occupied. Position e lies in shell e / capacity of that orbital counted
+	 * from its starting shell, so the s orbital uses two bits per shell, the p
+	 * orbital six, the d orbital ten and the f orbital fourteen.
+	 */
+	private final long s_OrbitalActive;
+	private final long p_OrbitalActive;
+	private final long d_OrbitalActive;
+	private final long f_OrbitalActive;
+	private static final int s_OrbitalCapacity = 2;
+	private static final int p_OrbitalCapacity = 6;
+	private static final short s_OrbitalStartingShell = 1;
+	private static final short p_OrbitalStartingShell = 2;
+
+	/*
+	 * The following method returns the shared configuration of an atomic
+	 * number, computing it the first time it is requested.
+	 */
+	static ElectronConfiguration of(int atomicNumber) {
+		ElectronConfiguration configuration = configurations.get(atomicNumber);
+		if (configuration != null)
+			return configuration;
+		synchronized (configurations) {
+			configuration = configurations.get(atomicNumber);
+			if (configuration == null) {
+				configuration = new ElectronConfiguration(atomicNumber);
+				configurations.set(atomicNumber, configuration);
+			}
+		}
+		return configuration;
+	}
+
+	private ElectronConfiguration(int atomicNumber) {
+		this.atomicNumber = atomicNumber;
+		int s = 0, p = 0, d = 0, f = 0;
+		for (int n = 1; n <= atomicNumber; ++n) {
+			s += ChemicalElement.s_OrbitalChange(n);
+			p += ChemicalElement.p_OrbitalChange(n);
+			d += ChemicalElement.d_OrbitalChange(n);
+			f += ChemicalElement.f_OrbitalChange(n);
+		}
+		/*
+		 * The electrons always occupy the lowest positions of each orbital, so
+		 * only the final count of each one matters.
+		 */
+		s_OrbitalActive = occupied(s);
+		p_OrbitalActive = occupied(p);
+		d_OrbitalActive = occupied(d);
+		f_OrbitalActive = occupied(f);
+	}
+
+	private static long occupied(int electrons) {
+		return electrons == 0 ? 0L : -1L >>> (Long.SIZE - electrons);
+	}
+
+	/*
+	 * The following method returns the highest shell containing an electron in
+	 * an orbital, counted from that orbital's starting shell.
+	 */
+	private static int highestShell(long orbitalActive, int capacity) {
+		if (orbitalActive == 0L)
+			return 0;
+		return (Long.SIZE - 1 - Long.numberOfLeadingZeros(orbitalActive)) / capacity + 1;
+	}
+
+	private static int electronsInShell(long orbitalActive, int capacity, int shell) {
+		return Long.bitCount((orbitalActive >>> (shell * capacity)) & ((1L << capacity) - 1));
+	}
+
+	int valenceElectrons() {
+		int highestShell = /*
+							 * By definition the number of valence electrons
+							 * must be the number of electrons in orbit in the
+							 * highest shell.
+							 */ highestShell();
+		int valenceElectrons = electronsInShell(s_OrbitalActive, s_OrbitalCapacity, highestShell - 1);
+		if (atomicNumber > 2)
+			valenceElectrons += electronsInShell(p_OrbitalActive, p_OrbitalCapacity,
+					(highestShell - 1) - (p_OrbitalStartingShell - s_OrbitalStartingShell));
+		return valenceElectrons;
+	}
+
+	int fullShell() {/**
+						 * This is the remaining number of electrons required to
+						 * complete a full shell.
+						 */
+		int highestInS_Shell = highestShell(s_OrbitalActive, s_OrbitalCapacity);
+		int highestInP_Shell = highestShell(p_OrbitalActive, p_OrbitalCapacity);
+		if (highestInS_Shell == highestInP_Shell + 1 && atomicNumber >= 3)
+			return 8;
+		else
+			return 2;
+	}
+
+	short highestShell() {/**
+							 * This is the number of shells around the nucleus.
+							 */
+		return (short) highestShell(s_OrbitalActive, s_OrbitalCapacity);
+	}
+}
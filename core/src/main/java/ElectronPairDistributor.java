@@ -0,0 +1,103 @@
+import java.util.List;
+
+/*
+ * The following class distributes the electron pairs of a molecule among its
+ * bonds. The atoms are visited in rounds in ascending order, the same as a
+ * sweep over every atom, but an atom that cannot place a pair during its turn
+ * is dropped from the list for good. The electron counts only ever grow, so
+ * such an atom could never place a pair in a later round either, and the
+ * result is the same as sweeping every atom until nothing changes. Each atom
+ * is visited at most once more than the number of pairs it places, which
+ * makes the distribution linear in the number of bonds.
+ */
+final class ElectronPairDistributor {
+	private final CompressedBonds bonds;
+	private final short[] potentialBonds;
+	private final short[] fullShells;
+	private final short[] electronsInBonds;
+	private final short[] electronsInOrbit;
+	/*
+	 * The following array counts the electron pairs in the bonds of each atom,
+	 * so that it does not need to be summed again on every visit.
+	 */
+	private final int[] pairsInBonds;
+
+	ElectronPairDistributor(CompressedBonds bonds, List<Atom> allAtoms) {
+		this.bonds = bonds;
+		int size = bonds.size();
+		potentialBonds = new short[size];
+		fullShells = new short[size];
+		for (int i = 0; i < size; ++i) {
+			Atom atom = allAtoms.get(i);
+			potentialBonds[i] = atom.potenialChemicalBonds();
+			fullShells[i] = (short) atom.fullShell();
+		}
+		electronsInBonds = new short[bonds.slotCount()];
+		electronsInOrbit = new short[size];
+		pairsInBonds = new int[size];
+	}
+
+	void distribute(int remainingElectronPairs) {
+		int size = bonds.size();
+		int[] open = new int[size];
+		for (int i = 0; i < size; ++i)
+			open[i] = i;
+		int openCount = size;
+		while (remainingElectronPairs > 0 && openCount > 0) {
+			int stillOpen = 0;
+			for (int n = 0; n < openCount; ++n) {
+				int i = open[n];
+				int placed = placePairs(i);
+				remainingElectronPairs -= placed;
+				if (placed > 0)
+					open[stillOpen++] = i;
+			}
+			openCount = stillOpen;
+		}
+		// The lone pairs must be filled.
+		for (int i = 0; i < size; ++i) {
+			while (electronsInOrbit[i] < fullShells[i])
+				electronsInOrbit[i] += 2;
+			if (electronsInOrbit[i] > fullShells[i])
+				electronsInOrbit[i] -= 2;
+		}
+	}
+
+	/*
+	 * The following method gives one pair to every bond of an atom that can
+	 * still take one, and returns how many pairs it placed.
+	 */
+	private int placePairs(int i) {
+		if (pairsInBonds[i] >= potentialBonds[i])
+			return 0;
+		int placed = 0;
+		for (int slot = bonds.offsets[i]; slot < bonds.offsets[i + 1]; ++slot) {
+			if (electronsInBonds[slot] == 6)
+				// A triple bond is the maximum.
+				continue;
+			int x = bonds.targets[slot];
+			/*
+			 * Atoms i and x cannot receive any more electrons if they have
+			 * reached their full shell.
+			 */
+			if (electronsInOrbit[i] == fullShells[i] || electronsInOrbit[x] == fullShells[x])
+				continue;
+			electronsInBonds[slot] += 2;
+			electronsInBonds[bonds.mirrors[slot]] += 2;
+			electronsInOrbit[i] += 2;
+			electronsInOrbit[x] += 2;
+			++pairsInBonds[i];
+			++pairsInBonds[x];
+			++placed;
+		}
+		return placed;
+	}
+
+	short[] electronsInBonds() {
+		return electronsInBonds;
+	}
+
+	short[] electronsInOrbit() {
+		return electronsInOrbit;
+	}
+}
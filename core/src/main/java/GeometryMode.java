@@ -0,0 +1,8 @@
+/*
+ * The following enumeration selects the arithmetic used for molecular
+ * geometry. Exact geometry works through AccurateNumber, while fast geometry
+ * works through primitive doubles and is meant for displaying large molecules.
+ */
+public enum GeometryMode {
+	EXACT, FAST
+}
@@ -0,0 +1,100 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * The following class reads a file one line at a time through a window of the
+ * file mapped into memory. Only the window is mapped, and it moves forward as
+ * the lines are read, so files far larger than the memory of the machine can
+ * be read without copying them through a stream buffer first. A line may end
+ * with a line feed, a carriage return and line feed, or the end of the file.
+ */
+final class MappedLineReader implements Closeable {
+	static final int defaultWindowSize = 64 << 20;
+	private final FileChannel channel;
+	private final long fileSize;
+	private int windowSize;
+	private MappedByteBuffer window;
+	// The following field is the position in the file of the first byte of the window.
+	private long windowStart;
+	private long lineNumber;
+	private byte[] lineBytes = new byte[256];
+
+	MappedLineReader(Path file) throws IOException {
+		this(file, defaultWindowSize);
+	}
+
+	MappedLineReader(Path file, int windowSize) throws IOException {
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		fileSize = channel.size();
+		this.windowSize = Math.max(16, windowSize);
+		map(0);
+	}
+
+	private void map(long start) throws IOException {
+		windowStart = start;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, fileSize - start));
+	}
+
+	/*
+	 * The following method returns the next line without its ending, or null
+	 * at the end of the file.
+	 */
+	String readLine() throws IOException {
+		if (windowStart + window.position() >= fileSize)
+			return null;
+		int start = window.position();
+		int end = start;
+		int limit = window.limit();
+		while (true) {
+			while (end < limit && window.get(end) != '\n')
+				++end;
+			if (end < limit || windowStart + limit >= fileSize)
+				break;
+			/*
+			 * The line runs past the window, so the window is moved to start
+			 * at the line, and made larger if the line alone fills it.
+			 */
+			long lineStart = windowStart + start;
+			if (limit - start >= windowSize / 2)
+				windowSize = (int) Math.min(Integer.MAX_VALUE - 8, windowSize * 2L);
+			end = end - start;
+			map(lineStart);
+			start = 0;
+			limit = window.limit();
+		}
+		int length = end - start;
+		window.position(end < limit ? end + 1 : end);
+		if (length > 0 && window.get(start + length - 1) == '\r')
+			--length;
+		if (lineBytes.length < length)
+			lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+		window.get(start, lineBytes, 0, length);
+		++lineNumber;
+		return new String(lineBytes, 0, length, StandardCharsets.UTF_8);
+	}
+
+	// The following method returns the number of the line read last, counting from one.
+	long lineNumber() {
+		return lineNumber;
+	}
+
+	// The following method returns how far into the file the reader is, in bytes.
+	long position() {
+		return windowStart + window.position();
+	}
+
+	long size() {
+		return fileSize;
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+}
@@ -0,0 +1,642 @@
+/**
+ * The molecule class was designed to extend ObjectWeb, since a molecule is composed of atoms, which are connected to one another.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@SuppressWarnings("rawtypes")
+public class Molecule extends ObjectWeb {
+	/*
+	 * The data structure that contains the information about atoms in any
+	 * object of molecule should be dynamic, allowing more chemical bonds to
+	 * form.
+	 */
+	private ArrayList<Atom> allAtoms;
+	/*
+	 * The following graph contains information about which atoms bond to
+	 * which other atoms.
+	 */
+	private BondGraph bonds;
+	/*
+	 * The electron configuration is kept until the bonds change, since the
+	 * geometry calculations ask for it several times in a row. Changing one
+	 * of the atoms themselves, as with setAtomicNumber, does not clear it;
+	 * atomsChanged does.
+	 */
+	private configuration electronConfiguration;
+	private long configurationCacheHits, configurationCacheMisses;
+	// The canonical key is kept until the bonds change, just as the configuration is.
+	private MoleculeKey canonicalKey;
+	/*
+	 * Once a snapshot has been asked for, every change also makes the next
+	 * version of it, which costs far less than taking a new one each time.
+	 */
+	private MoleculeSnapshot snapshot;
+	private GeometryMode geometryMode = GeometryMode.EXACT;
+	/*
+	 * The bonding angles only depend on the number of electrons in orbit and
+	 * the position of the bond, so their directions are converted to doubles
+	 * once and shared by every molecule.
+	 */
+	private static final AtomicReferenceArray<double[]> bondDirections = new AtomicReferenceArray<double[]>(16);
+
+	@SuppressWarnings("unchecked")
+	public Molecule(ArrayList<Atom> allAtoms, boolean[][] bondsTo)
+			throws InvalidChemicalBondException, InvalidObjectWebSizeException {
+		super(new ArrayList<Object>(), new boolean[0][0]);
+		// A molecule, by definition must contain at least two atoms.
+		if (allAtoms.size() == 1)
+			throw new IllegalArgumentException("A molecule must contain multiple atoms.");
+		setAllAtoms(allAtoms);
+		setBonds(bondsTo);
+	}
+
+	/*
+	 * The following constructor takes the bonds as a graph, which avoids
+	 * building a two dimensional boolean array for large molecules.
+	 */
+	@SuppressWarnings("unchecked")
+	public Molecule(ArrayList<Atom> allAtoms, BondGraph bonds)
+			throws InvalidChemicalBondException, InvalidObjectWebSizeException {
+		super(new ArrayList<Object>(), new boolean[0][0]);
+		if (allAtoms.size() == 1)
+			throw new IllegalArgumentException("A molecule must contain multiple atoms.");
+		if (bonds.size() != allAtoms.size())
+			throw new InvalidObjectWebSizeException("The bond graph must contain exactly one entry for every atom.");
+		setAllAtoms(allAtoms);
+		for (int p = 0; p < bonds.size(); ++p)
+			if (bonds.degree(p) > allAtoms.get(p).potenialChemicalBonds())
+				throw new InvalidChemicalBondException(bonds.degree(p));
+		// The graph is shared in its compressed form, so a later change to the one passed in leaves this one alone.
+		this.bonds = BondGraph.sharing(bonds.compress());
+	}
+
+	/*
+	 * The following constructor makes a molecule from a template that was
+	 * checked when it was made, so nothing is checked again. The atoms are new,
+	 * and the bonds are shared with the template until the molecule changes.
+	 */
+	@SuppressWarnings("unchecked")
+	Molecule(MoleculeTemplate template) throws InvalidObjectWebSizeException {
+		super(new ArrayList<Object>(), new boolean[0][0]);
+		setAllAtoms(template.newAtoms());
+		bonds = BondGraph.sharing(template.bonds());
+	}
+
+	protected Molecule() {
+		/*
+		 * Since the set methods are private, a default constructor would serve
+		 * no purpose for a user.
+		 */
+	}
+
+	/*
+	 * The following method sums up the valence electron count of every atom in
+	 * the molecule.
+	 */
+	int totalValenceElectrons() {
+		int totalValenceElectrons = 0;
+		for (int n = 0; n < allAtoms.size(); ++n) {
+			totalValenceElectrons += allAtoms.get(n).valenceElectrons();
+		}
+		return totalValenceElectrons;
+	}
+
+	int numberOfElectronPairs() {
+		return totalValenceElectrons() / 2;
+	}
+
+	/*
+	 * The following method removes an atom bonded to at most one other atom.
+	 * The last atom in the list takes the place of the removed one.
+	 */
+	void remove(int removalPoint) throws IllegalArgumentException {
+		if (allAtoms.size() == 2)
+			throw new IllegalArgumentException();
+		if (bonds.degree(removalPoint) > 1)
+			throw new IllegalArgumentException("That atom cannot be removed as it is bonded to two other atoms.");
+		int last = allAtoms.size() - 1;
+		allAtoms.set(removalPoint, allAtoms.get(last));
+		allAtoms.remove(last);
+		bonds.removeAtom(removalPoint);
+		electronConfiguration = null;
+		canonicalKey = null;
+		if (snapshot != null)
+			snapshot = snapshot.remove(removalPoint);
+	}
+
+	/**
+	 * The following method adds a new atom to the end of the list, connecting
+	 * to exactly one specified atom already in the molecule. Only the bonds of
+	 * the connecting atom are checked, since no other atom changes.
+	 */
+	void bond(int connectionPoint, Atom newAtom) throws InvalidChemicalBondException, InvalidObjectWebSizeException {
+		int connectionPointBondCount = bonds.degree(connectionPoint);
+		/*
+		 * The new number of bonds the connecting atom has must not exceed its
+		 * chemical bond limit.
+		 */
+		if (connectionPointBondCount + 1 > allAtoms.get(connectionPoint).potenialChemicalBonds())
+			throw new InvalidChemicalBondException(connectionPointBondCount + 1);
+		if (newAtom.potenialChemicalBonds() < 1)
+			throw new InvalidChemicalBondException(1);
+		allAtoms.add(newAtom);
+		bonds.connect(connectionPoint, bonds.addAtom());
+		electronConfiguration = null;
+		canonicalKey = null;
+		if (snapshot != null)
+			snapshot = snapshot.bondChecked(connectionPoint, newAtom.getAtomicNumber());
+	}
+
+	/*
+	 * The following two dimensional array corresponds to the doesBondTo boolean
+	 * array. If it is true that one particular atom bonds to another particular
+	 * atom, then they are assigned an integer number for the length of their
+	 * bond in picometers.
+	 */
+	int[][] bondLengthsInPicometers() {
+		configuration electronConfiguration = electronOrbitConfiguration();
+		int[] lengths = bondLengthsInPicometers(electronConfiguration);
+		int[][] bondLengthsInPicometers = new int[allAtoms.size()][allAtoms.size() - 1];
+		CompressedBonds compressed = electronConfiguration.bonds;
+		for (int i = 0; i < compressed.size(); ++i)
+			for (int slot = compressed.offsets[i]; slot < compressed.offsets[i + 1]; ++slot)
+				bondLengthsInPicometers[i][BondGraph.column(i, compressed.targets[slot])] = lengths[slot];
+		return bondLengthsInPicometers;
+	}
+
+	/*
+	 * The following array holds the length of every bond in picometers, in the
+	 * order of the bond slots of the configuration.
+	 */
+	int[] bondLengthsInPicometers(configuration electronConfiguration) {
+		int[] bondLengthsInPicometers = new int[electronConfiguration.electronsInBonds.length];
+		for (int slot = 0; slot < bondLengthsInPicometers.length; ++slot)
+			switch (/*
+					 * The length of the bonds are dependent upon the number of
+					 * electron pairs between the two atoms. The more pairs
+					 * there are the shorter the bonds get.
+					 */electronConfiguration.electronsInBonds[slot]) {
+			case 2:
+				bondLengthsInPicometers[slot] = 154;
+				break;
+			case 4:
+				bondLengthsInPicometers[slot] = 133;
+				break;
+			case 6:
+				bondLengthsInPicometers[slot] = 120;
+			}
+		return bondLengthsInPicometers;
+	}
+
+	// The following contains information regarding the molecular geometry.
+	Angle_3DSpace[][] bondingAngles() {
+		configuration electronConfiguration = electronOrbitConfiguration();
+		Angle_3DSpace[] angles = bondingAngles(electronConfiguration);
+		Angle_3DSpace[][] bondingAngles = new Angle_3DSpace[allAtoms.size()][allAtoms.size() - 1];
+		CompressedBonds compressed = electronConfiguration.bonds;
+		for (int i = 0; i < compressed.size(); ++i)
+			for (int slot = compressed.offsets[i]; slot < compressed.offsets[i + 1]; ++slot)
+				bondingAngles[i][BondGraph.column(i, compressed.targets[slot])] = angles[slot];
+		return bondingAngles;
+	}
+
+	/*
+	 * The following array holds the angle of every bond, in the order of the
+	 * bond slots of the configuration.
+	 */
+	Angle_3DSpace[] bondingAngles(configuration electronConfiguration) {
+		CompressedBonds compressed = electronConfiguration.bonds;
+		Angle_3DSpace[] bondingAngles = new Angle_3DSpace[compressed.slotCount()];
+		for (int i = 0; i < compressed.size(); ++i) {
+			/*
+			 * The bonds of each atom are visited in order, since each bond
+			 * needs to be filled following the rules of molecular geometry.
+			 */
+			int bondingIndex = 0;
+			for (int slot = compressed.offsets[i]; slot < compressed.offsets[i + 1]; ++slot)
+				bondingAngles[slot] = bondingAngle(electronConfiguration.electronsInOrbit[i], bondingIndex++);
+		}
+		return bondingAngles;
+	}
+
+	/*
+	 * The following method returns the angle of the bond at the given position
+	 * among the bonds of an atom with the given number of electrons in orbit,
+	 * or null if there is no angle for it.
+	 */
+	private static Angle_3DSpace bondingAngle(int electronsInOrbit, int bondingIndex) {
+		try {
+			switch (electronsInOrbit) {
+			case 2:
+				return new Angle_3DSpace(null, new AccurateNumber("90", "0"), new AccurateNumber("90", "0"));
+			case 4:
+				switch (bondingIndex) {
+				case 0:
+					return new Angle_3DSpace(null, new AccurateNumber("90", "0"), new AccurateNumber("90", "0"));
+				case 1:
+					return new Angle_3DSpace(null, new AccurateNumber("270", "0"), new AccurateNumber("270", "0"));
+				}
+				break;
+			case 6:
+				switch (bondingIndex) {
+				case 0:
+					return new Angle_3DSpace(null, new AccurateNumber("90", "0"), new AccurateNumber("90", "0"));
+				case 1:
+					return new Angle_3DSpace(new AccurateNumber("180", "0"), new AccurateNumber("210", "0"),
+							new AccurateNumber("270", "0"));
+				case 2:
+					return new Angle_3DSpace(new AccurateNumber("0", "0"), new AccurateNumber("330", "0"),
+							new AccurateNumber("270", "0"));
+				}
+				break;
+			case 8:
+				switch (bondingIndex) {
+				case 0:
+					return new Angle_3DSpace(new AccurateNumber("90", "0"), null, new AccurateNumber("0", "0"));
+				case 1:
+					return new Angle_3DSpace(new AccurateNumber("270", "0"), new AccurateNumber("90", "0"), null);
+				case 2:
+					return new Angle_3DSpace(new AccurateNumber("240", "0"), new AccurateNumber("210", "0"), null);
+				case 3:
+					return new Angle_3DSpace(new AccurateNumber("300", "0"), new AccurateNumber("330", "0"), null);
+				}
+			}
+		} catch (InvalidDimensionUseException ivdue) {
+
+		} catch (Invalid3DAngleInputException e) {
+
+		}
+		return null;
+	}
+
+	/*
+	 * The following one dimensional array contains information about the
+	 * location of each atom in a three dimensional coordinate system. It is
+	 * calculated with the geometry mode of the molecule.
+	 */
+	Point3D_Space[] molecularCoordinates() throws NumberTooLargeException, InvalidDimensionUseException {
+		return molecularCoordinates(geometryMode);
+	}
+
+	Point3D_Space[] molecularCoordinates(GeometryMode mode)
+			throws NumberTooLargeException, InvalidDimensionUseException {
+		if (mode == GeometryMode.EXACT)
+			return exactMolecularCoordinates();
+		return molecularCoordinateBuffer().toPoints();
+	}
+
+	/*
+	 * The following method places the atoms the same way as exact geometry,
+	 * but with doubles, and returns them in one packed buffer. An atom that is
+	 * never placed, because it is not connected to the first atom, is left as
+	 * NaN.
+	 */
+	public CoordinateBuffer molecularCoordinateBuffer() throws NumberTooLargeException, InvalidDimensionUseException {
+		configuration electronConfiguration = electronOrbitConfiguration();
+		CompressedBonds compressed = electronConfiguration.bonds;
+		int[] bondLengthsInPicometers = bondLengthsInPicometers(electronConfiguration);
+		CoordinateBuffer buffer = new CoordinateBuffer(allAtoms.size());
+		double[] x = buffer.x, y = buffer.y, z = buffer.z;
+		Arrays.fill(x, Double.NaN);
+		x[0] = 500.0;
+		y[0] = 500.0;
+		z[0] = 500.0;
+		int[] placement = placementOrder(compressed);
+		for (int p = 0; p < placement.length; ++p) {
+			int i = placement[p];
+			for (int slot = compressed.offsets[i]; slot < compressed.offsets[i + 1]; ++slot) {
+				int a = compressed.targets[slot];
+				if (!Double.isNaN(x[a]))
+					continue;
+				double[] vector = bondDirection(electronConfiguration.electronsInOrbit[i],
+						slot - compressed.offsets[i]);
+				// A bond without an angle has no direction, just as in exact geometry.
+				if (vector == null)
+					throw new NullPointerException("Atom " + a + " cannot be placed.");
+				double distance = allAtoms.get(a).diameterInPicometers() / 2.0
+						+ bondLengthsInPicometers[slot] / 2.0;
+				x[a] = x[i] + vector[0] * distance;
+				y[a] = y[i] + vector[1] * distance;
+				z[a] = z[i] + vector[2] * distance;
+			}
+		}
+		return buffer;
+	}
+
+	/*
+	 * The following method returns the atoms connected to the first atom,
+	 * breadth first. Every atom is placed from the atom it was reached from,
+	 * which has always been placed before it, so the placement does not depend
+	 * on the order of the atoms, which removing an atom changes.
+	 */
+	static int[] placementOrder(CompressedBonds bonds) {
+		int[] queue = new int[bonds.size()];
+		boolean[] reached = new boolean[bonds.size()];
+		int head = 0, tail = 0;
+		if (bonds.size() > 0) {
+			queue[tail++] = 0;
+			reached[0] = true;
+		}
+		while (head < tail) {
+			int i = queue[head++];
+			for (int slot = bonds.offsets[i]; slot < bonds.offsets[i + 1]; ++slot)
+				if (!reached[bonds.targets[slot]]) {
+					reached[bonds.targets[slot]] = true;
+					queue[tail++] = bonds.targets[slot];
+				}
+		}
+		return Arrays.copyOf(queue, tail);
+	}
+
+	/*
+	 * The following method returns the direction of a bond as three doubles, or
+	 * null if there is no angle for it.
+	 */
+	private static double[] bondDirection(int electronsInOrbit, int bondingIndex)
+			throws NumberTooLargeException, InvalidDimensionUseException {
+		if (electronsInOrbit < 2 || electronsInOrbit > 8 || electronsInOrbit % 2 != 0 || bondingIndex > 3)
+			return null;
+		if (electronsInOrbit == 2)
+			// Every bond of an atom with two electrons in orbit has the same angle.
+			bondingIndex = 0;
+		int key = (electronsInOrbit / 2 - 1) * 4 + bondingIndex;
+		double[] direction = bondDirections.get(key);
+		if (direction != null)
+			return direction;
+		Angle_3DSpace angle = bondingAngle(electronsInOrbit, bondingIndex);
+		if (angle == null)
+			return null;
+		AccurateNumber[] vector = angle.directionalPlaneVector();
+		direction = new double[] { vector[0].asDouble(), vector[1].asDouble(), vector[2].asDouble() };
+		bondDirections.compareAndSet(key, null, direction);
+		return bondDirections.get(key);
+	}
+
+	private Point3D_Space[] exactMolecularCoordinates() throws NumberTooLargeException, InvalidDimensionUseException {
+		Point3D_Space[] molecularCoordinates = new Point3D_Space[allAtoms.size()];
+		configuration electronConfiguration = electronOrbitConfiguration();
+		CompressedBonds compressed = electronConfiguration.bonds;
+		Angle_3DSpace[] bondingAngles = bondingAngles(electronConfiguration);
+		int[] bondLengthsInPicometers = bondLengthsInPicometers(electronConfiguration);
+		molecularCoordinates[0] = new Point3D_Space(new AccurateNumber("500", "0"), new AccurateNumber("500", "0"),
+				new AccurateNumber("500", "0"));
+		int[] placement = placementOrder(compressed);
+		for (int p = 0; p < placement.length; ++p) {
+			int i = placement[p];
+			for (int slot = compressed.offsets[i]; slot < compressed.offsets[i + 1]; ++slot) {
+				int x = compressed.targets[slot];
+				if (molecularCoordinates[x] != null)
+					continue;
+				AccurateNumber[] vector = bondingAngles[slot].directionalPlaneVector();
+				AccurateNumber radius = new AccurateNumber(allAtoms.get(x).diameterInPicometers() / 2.0);
+				AccurateNumber halfBond = new AccurateNumber(bondLengthsInPicometers[slot] / 2.0);
+				Point3D_Space assignmentPoint = new Point3D_Space();
+				assignmentPoint.setX_Coordinate(molecularCoordinates[i].getX_Coordinate()
+						.sum(vector[0].product(radius)).sum(vector[0].product(halfBond)));
+				assignmentPoint.setY_Coordinate(molecularCoordinates[i].getY_Coordinate()
+						.sum(vector[1].product(radius)).sum(vector[1].product(halfBond)));
+				assignmentPoint.setZ_Coordinate(molecularCoordinates[i].getZ_Coordinate()
+						.sum(vector[2].product(radius)).sum(vector[2].product(halfBond)));
+				molecularCoordinates[x] = assignmentPoint;
+			}
+		}
+		return molecularCoordinates;
+	}
+
+	/*
+	 * The following class stores information regarding the number of electrons
+	 * between each atom that is bonded together in the molecule, as well as the
+	 * total number of electrons are orbiting around each atom. The electrons in
+	 * bonds are stored in the order of the bond slots of the compressed bonds.
+	 * The same object is handed out until the molecule changes, so its arrays
+	 * must not be changed.
+	 */
+
+	protected class configuration {
+		public final CompressedBonds bonds;
+		public final short[] electronsInBonds;
+		public final short[] electronsInOrbit;
+
+		public configuration(CompressedBonds bonds, short[] electronsInBonds, short[] electronsInOrbit) {
+			this.bonds = bonds;
+			this.electronsInBonds = electronsInBonds;
+			this.electronsInOrbit = electronsInOrbit;
+		}
+
+		// The following method returns the number of electrons between two atoms.
+		public short electronsInBond(int atom, int other) {
+			for (int slot = bonds.offsets[atom]; slot < bonds.offsets[atom + 1]; ++slot)
+				if (bonds.targets[slot] == other)
+					return electronsInBonds[slot];
+			return 0;
+		}
+
+		/*
+		 * The following method returns the electrons in bonds in the form the
+		 * configuration used to hold them: row i has an entry for every other
+		 * atom in order, skipping atom i itself, as doesBondTo does. It takes
+		 * memory for every pair of atoms, so it is only meant for code written
+		 * against that form; a new array is returned every time.
+		 */
+		public short[][] electronsInBondsMatrix() {
+			int size = bonds.size();
+			short[][] matrix = new short[size][Math.max(0, size - 1)];
+			for (int i = 0; i < size; ++i)
+				for (int slot = bonds.offsets[i]; slot < bonds.offsets[i + 1]; ++slot) {
+					int x = bonds.targets[slot];
+					matrix[i][x < i ? x : x - 1] = electronsInBonds[slot];
+				}
+			return matrix;
+		}
+	}
+
+	/**
+	 * The following method counts how many electrons each bond in the molecule
+	 * holds. A bond holding two electrons is single, four double and six
+	 * triple. It also contains integer information about the number of
+	 * electrons orbiting each atom in the molecule.
+	 */
+
+	public configuration electronOrbitConfiguration() {
+		if (electronConfiguration != null) {
+			++configurationCacheHits;
+			return electronConfiguration;
+		}
+		++configurationCacheMisses;
+		electronConfiguration = distributeElectronPairs();
+		return electronConfiguration;
+	}
+
+	private configuration distributeElectronPairs() {
+		CompressedBonds compressed = bonds.compress();
+		ElectronPairDistributor distributor = new ElectronPairDistributor(compressed, allAtoms);
+		distributor.distribute(numberOfElectronPairs());
+		return new configuration(compressed, distributor.electronsInBonds(), distributor.electronsInOrbit());
+	}
+
+	/*
+	 * The following method returns a key that is equal for every molecule with
+	 * the same structure, whatever the order of its atoms. Like the
+	 * configuration, it is not cleared by changing one of the atoms itself.
+	 */
+	public MoleculeKey canonicalKey() {
+		if (canonicalKey == null)
+			canonicalKey = MoleculeKey.of(atomicNumbers(), bonds.compress());
+		return canonicalKey;
+	}
+
+	// The following method returns the position of every atom in the canonical order.
+	public int[] canonicalLabels() {
+		return new CanonicalLabeller(atomicNumbers(), bonds.compress()).labels().clone();
+	}
+
+	// The following method returns whether another molecule has the same structure as this one.
+	public boolean hasSameStructureAs(Molecule other) {
+		return canonicalKey().equals(other.canonicalKey());
+	}
+
+	private int[] atomicNumbers() {
+		int[] atomicNumbers = new int[allAtoms.size()];
+		for (int n = 0; n < atomicNumbers.length; ++n)
+			atomicNumbers[n] = allAtoms.get(n).getAtomicNumber();
+		return atomicNumbers;
+	}
+
+	/*
+	 * The following method clears the stored configuration, key and snapshot,
+	 * and must be called after changing one of the atoms itself, as with
+	 * setAtomicNumber. The list of atoms cannot be changed from outside.
+	 */
+	void atomsChanged() {
+		electronConfiguration = null;
+		canonicalKey = null;
+		snapshot = null;
+	}
+
+	/*
+	 * The following method returns the molecule as it is now, as a version
+	 * that never changes. It can be kept to return to later with restore, or
+	 * read by other threads while this molecule goes on changing.
+	 */
+	public MoleculeSnapshot snapshot() {
+		if (snapshot == null)
+			snapshot = MoleculeSnapshot.of(allAtoms, bonds);
+		return snapshot;
+	}
+
+	// The following method puts the atoms and bonds of a snapshot in place of those of the molecule.
+	public void restore(MoleculeSnapshot snapshot) {
+		if (snapshot.atomCount() < 2)
+			throw new IllegalArgumentException("A molecule must contain multiple atoms.");
+		setAllAtoms(snapshot.newAtoms());
+		bonds = snapshot.newBondGraph();
+		electronConfiguration = null;
+		canonicalKey = null;
+		this.snapshot = snapshot;
+	}
+
+	public GeometryMode getGeometryMode() {
+		return geometryMode;
+	}
+
+	public void setGeometryMode(GeometryMode geometryMode) {
+		this.geometryMode = geometryMode;
+	}
+
+	// The following two methods count how often the stored configuration was reused.
+	public long configurationCacheHits() {
+		return configurationCacheHits;
+	}
+
+	public long configurationCacheMisses() {
+		return configurationCacheMisses;
+	}
+
+	/*
+	 * The following method returns the atoms in a list that cannot be changed,
+	 * since atoms may only be added and removed through bond and remove.
+	 */
+	public List<Atom> getAllAtoms() {
+		return Collections.unmodifiableList(allAtoms);
+	}
+
+	/*
+	 * The following method builds the two dimensional boolean array in which
+	 * row i lists whether atom i bonds to every other atom in order, skipping
+	 * atom i itself.
+	 */
+	public boolean[][] doesBondTo() {
+		return bonds.toMatrix();
+	}
+
+	// The bonds are no longer mirrored into the web, so it reads them from the graph.
+	@Override
+	public boolean[][] isConnectedTo() {
+		return doesBondTo();
+	}
+
+	BondGraph bondGraph() {
+		return bonds;
+	}
+
+	// The list is copied, so that the caller cannot add or remove atoms behind the molecule's back.
+	private void setAllAtoms(ArrayList<Atom> allAtoms) {
+		this.allAtoms = new ArrayList<Atom>(allAtoms);
+	}
+
+	private void setBonds(boolean[][] bondsTo) throws InvalidChemicalBondException, InvalidObjectWebSizeException {
+		if (bondsTo.length == 0) {
+			bonds = new BondGraph();
+			electronConfiguration = null;
+			canonicalKey = null;
+			snapshot = null;
+			return;
+		}
+		/*
+		 * It is not right for an exception to be thrown if the initial size is
+		 * zero.
+		 */
+		if (bondsTo.length - bondsTo[0].length != 1)
+			throw new InvalidObjectWebSizeException(
+					"The second dimension of the connections boolean array must be a size one less than that of the first dimension.");
+		for (int p = 0; p < bondsTo.length; ++p) {
+			short numberOfBonds = 0;
+			for (int r = 0; r < bondsTo[p].length; ++r) {
+				if (bondsTo[p][r])
+					/**
+					 * This loop counts the number of atoms a particular atom is
+					 * connected to. It increments every time it is evaluated as
+					 * 'true' that it is connected to another atom in the list.
+					 */
+					++numberOfBonds;
+			}
+			if (numberOfBonds > allAtoms.get(p).potenialChemicalBonds())
+				/*
+				 * In particle physics, an atom cannot be forced to form bonds
+				 * to more atoms than it is capable of.
+				 */
+				throw new InvalidChemicalBondException(numberOfBonds);
+		}
+		bonds = BondGraph.fromMatrix(bondsTo);
+		electronConfiguration = null;
+		canonicalKey = null;
+		snapshot = null;
+	}
+}
+
+class InvalidChemicalBondException extends Exception {
+	private static final long serialVersionUID = 1L;
+
+	public InvalidChemicalBondException(int bonds) {
+		super("InvalidChemicalBondException : " + bonds);
+	}
+
+	public InvalidChemicalBondException(String reason) {
+		super(reason);
+	}
+}
@@ -0,0 +1,98 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * The following class looks up common molecules by name in the catalogue
+ * bundled as molecules.tsv. Each line of the catalogue holds a name and the
+ * molecule as SMILES, separated by a tab. The file is only read the first time
+ * the catalogue is used, and a molecule is only checked and turned into a
+ * template the first time it is asked for. Names are matched regardless of
+ * case.
+ */
+public final class MoleculeCatalogue {
+	static final String resource = "/molecules.tsv";
+	private static final ConcurrentHashMap<String, MoleculeTemplate> templates =
+			new ConcurrentHashMap<String, MoleculeTemplate>();
+
+	private MoleculeCatalogue() {
+	}
+
+	// The following class holds the lines of the catalogue, and is only loaded when they are first needed.
+	private static final class Entries {
+		static final List<String> names;
+		// The following map gives the name as listed and the SMILES for every name in lower case.
+		static final HashMap<String, String[]> lines = new HashMap<String, String[]>();
+
+		static {
+			ArrayList<String> read = new ArrayList<String>();
+			try (InputStream input = MoleculeCatalogue.class.getResourceAsStream(resource)) {
+				if (input == null)
+					throw new IllegalStateException("The catalogue " + resource + " is missing.");
+				BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.isEmpty() || line.startsWith("#"))
+						continue;
+					int tab = line.indexOf('\t');
+					if (tab < 0)
+						continue;
+					String name = line.substring(0, tab).trim();
+					if (lines.putIfAbsent(key(name), new String[] { name, line.substring(tab + 1).trim() }) == null)
+						read.add(name);
+				}
+			} catch (IOException ioe) {
+				throw new UncheckedIOException(ioe);
+			}
+			names = Collections.unmodifiableList(read);
+		}
+	}
+
+	private static String key(String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	// The following method returns the name of every molecule in the catalogue, in the order they are listed.
+	public static List<String> names() {
+		return Entries.names;
+	}
+
+	public static boolean contains(String name) {
+		return Entries.lines.containsKey(key(name));
+	}
+
+	/*
+	 * The following method returns the template of a molecule in the
+	 * catalogue. The same template is returned every time, to every thread.
+	 */
+	public static MoleculeTemplate template(String name) throws InvalidMoleculeSpecException {
+		String key = key(name);
+		MoleculeTemplate template = templates.get(key);
+		if (template != null)
+			return template;
+		String[] line = Entries.lines.get(key);
+		if (line == null)
+			throw new InvalidMoleculeSpecException("The catalogue has no molecule named " + name + ".");
+		try {
+			template = MoleculeTemplate.of(new SmilesParser(line[1]).parse(line[0]));
+		} catch (InvalidAtomicNumberException | InvalidChemicalBondException | InvalidObjectWebSizeException e) {
+			throw new InvalidMoleculeSpecException(
+					"The catalogue entry for " + line[0] + " cannot be built: " + e.getMessage());
+		}
+		MoleculeTemplate earlier = templates.putIfAbsent(key, template);
+		return earlier == null ? template : earlier;
+	}
+
+	public static Molecule newMolecule(String name) throws InvalidMoleculeSpecException, InvalidObjectWebSizeException {
+		return template(name).newMolecule();
+	}
+}
@@ -0,0 +1,122 @@
+import java.lang.management.ManagementFactory;
+
+/*
+ * The following class builds and evaluates molecules without any user
+ * interface, so it can run on a machine without a display. It never refers to
+ * the classes of JavaFX or Swing. One engine may be shared by many threads,
+ * since every evaluation builds its own molecule.
+ */
+public final class MoleculeEngine {
+	private final GeometryMode geometryMode;
+	/*
+	 * The bytes allocated by a thread can only be read through the extension of
+	 * the thread bean found in most virtual machines. Without it they are not
+	 * measured.
+	 */
+	private static final com.sun.management.ThreadMXBean threads = threadBean();
+
+	public MoleculeEngine() {
+		this(GeometryMode.FAST);
+	}
+
+	public MoleculeEngine(GeometryMode geometryMode) {
+		this.geometryMode = geometryMode;
+	}
+
+	private static com.sun.management.ThreadMXBean threadBean() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean))
+			return null;
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		try {
+			if (!threads.isThreadAllocatedMemoryEnabled())
+				threads.setThreadAllocatedMemoryEnabled(true);
+			return threads;
+		} catch (UnsupportedOperationException uoe) {
+			return null;
+		}
+	}
+
+	// The following method returns the bytes allocated so far by the current thread, or -1 if unknown.
+	static long allocatedBytes() {
+		return threads == null ? -1 : threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	public GeometryMode getGeometryMode() {
+		return geometryMode;
+	}
+
+	/*
+	 * The following method reads one line in the form MoleculeSpec.parse
+	 * accepts and evaluates it. A line that cannot be read is returned as a
+	 * failure under the given name.
+	 */
+	public MoleculeEvaluation evaluate(String name, String line) {
+		long start = System.nanoTime();
+		long allocated = allocatedBytes();
+		try {
+			return evaluate(MoleculeSpec.parse(line));
+		} catch (InvalidMoleculeSpecException ivmse) {
+			return new MoleculeEvaluation(name, null, ivmse.getMessage(), System.nanoTime() - start,
+					difference(allocated, allocatedBytes()));
+		}
+	}
+
+	/*
+	 * The following method builds the molecule and calculates its electron
+	 * configuration, bond lengths and coordinates. It does not throw; anything
+	 * that goes wrong is returned as a failure.
+	 */
+	public MoleculeEvaluation evaluate(MoleculeSpec spec) {
+		long start = System.nanoTime();
+		long allocated = allocatedBytes();
+		try {
+			Molecule molecule = spec.build();
+			molecule.setGeometryMode(geometryMode);
+			Molecule.configuration electronConfiguration = molecule.electronOrbitConfiguration();
+			int[] lengths = molecule.bondLengthsInPicometers(electronConfiguration);
+			CoordinateBuffer coordinates;
+			if (geometryMode == GeometryMode.FAST)
+				coordinates = molecule.molecularCoordinateBuffer();
+			else
+				coordinates = toBuffer(molecule.molecularCoordinates(GeometryMode.EXACT));
+			CompressedBonds compressed = electronConfiguration.bonds;
+			int bondCount = compressed.slotCount() / 2;
+			int[] bondStarts = new int[bondCount], bondEnds = new int[bondCount];
+			short[] electronsInBonds = new short[bondCount];
+			int[] bondLengthsInPicometers = new int[bondCount];
+			int b = 0;
+			for (int i = 0; i < compressed.size(); ++i)
+				for (int slot = compressed.offsets[i]; slot < compressed.offsets[i + 1]; ++slot)
+					if (compressed.targets[slot] > i) {
+						bondStarts[b] = i;
+						bondEnds[b] = compressed.targets[slot];
+						electronsInBonds[b] = electronConfiguration.electronsInBonds[slot];
+						bondLengthsInPicometers[b++] = lengths[slot];
+					}
+			return new MoleculeEvaluation(spec, electronConfiguration.electronsInOrbit.clone(), bondStarts, bondEnds,
+					electronsInBonds, bondLengthsInPicometers, coordinates, System.nanoTime() - start,
+					difference(allocated, allocatedBytes()));
+		} catch (InvalidAtomicNumberException | InvalidChemicalBondException | InvalidObjectWebSizeException
+				| NumberTooLargeException | InvalidDimensionUseException | RuntimeException e) {
+			String failure = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+			return new MoleculeEvaluation(spec.getName(), spec, failure, System.nanoTime() - start,
+					difference(allocated, allocatedBytes()));
+		}
+	}
+
+	private static long difference(long before, long after) {
+		return before < 0 || after < 0 ? -1 : after - before;
+	}
+
+	private static CoordinateBuffer toBuffer(Point3D_Space[] points) throws NumberTooLargeException {
+		CoordinateBuffer buffer = new CoordinateBuffer(points.length);
+		for (int a = 0; a < points.length; ++a)
+			if (points[a] == null)
+				buffer.set(a, Double.NaN, Double.NaN, Double.NaN);
+			else
+				buffer.set(a, points[a].getX_Coordinate().asDouble(), points[a].getY_Coordinate().asDouble(),
+						points[a].getZ_Coordinate().asDouble());
+		return buffer;
+	}
+}
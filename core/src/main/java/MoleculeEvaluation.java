@@ -0,0 +1,145 @@
+import java.util.Locale;
+
+/*
+ * The following class holds everything calculated for one molecule: the
+ * electrons orbiting each atom, the electrons and length of every bond, and
+ * the coordinates of every atom. A molecule that could not be evaluated keeps
+ * the reason instead. Objects of this class are not changed after they are
+ * constructed.
+ */
+public final class MoleculeEvaluation {
+	private final String name;
+	private final MoleculeSpec spec;
+	private final short[] electronsInOrbit;
+	/*
+	 * The bonds are listed once each, from the atom with the lower index, as
+	 * in the compressed bonds of the molecule.
+	 */
+	private final int[] bondStarts;
+	private final int[] bondEnds;
+	private final short[] electronsInBonds;
+	private final int[] bondLengthsInPicometers;
+	private final CoordinateBuffer coordinates;
+	private final String failure;
+	private final long nanoseconds;
+	private final long allocatedBytes;
+
+	MoleculeEvaluation(MoleculeSpec spec, short[] electronsInOrbit, int[] bondStarts, int[] bondEnds,
+			short[] electronsInBonds, int[] bondLengthsInPicometers, CoordinateBuffer coordinates, long nanoseconds,
+			long allocatedBytes) {
+		this.name = spec.getName();
+		this.spec = spec;
+		this.electronsInOrbit = electronsInOrbit;
+		this.bondStarts = bondStarts;
+		this.bondEnds = bondEnds;
+		this.electronsInBonds = electronsInBonds;
+		this.bondLengthsInPicometers = bondLengthsInPicometers;
+		this.coordinates = coordinates;
+		this.failure = null;
+		this.nanoseconds = nanoseconds;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	/*
+	 * The following constructor records a failure. The description is null if
+	 * it could not be read, in which case the name says where it came from.
+	 */
+	MoleculeEvaluation(String name, MoleculeSpec spec, String failure, long nanoseconds, long allocatedBytes) {
+		this.name = name;
+		this.spec = spec;
+		this.electronsInOrbit = null;
+		this.bondStarts = null;
+		this.bondEnds = null;
+		this.electronsInBonds = null;
+		this.bondLengthsInPicometers = null;
+		this.coordinates = null;
+		this.failure = failure == null ? "Unknown failure" : failure;
+		this.nanoseconds = nanoseconds;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public MoleculeSpec getSpec() {
+		return spec;
+	}
+
+	public boolean succeeded() {
+		return failure == null;
+	}
+
+	public String getFailure() {
+		return failure;
+	}
+
+	public int bondCount() {
+		return bondStarts == null ? 0 : bondStarts.length;
+	}
+
+	public short electronsInOrbit(int atom) {
+		return electronsInOrbit[atom];
+	}
+
+	public int bondStart(int bond) {
+		return bondStarts[bond];
+	}
+
+	public int bondEnd(int bond) {
+		return bondEnds[bond];
+	}
+
+	public short electronsInBond(int bond) {
+		return electronsInBonds[bond];
+	}
+
+	public int bondLengthInPicometers(int bond) {
+		return bondLengthsInPicometers[bond];
+	}
+
+	public CoordinateBuffer getCoordinates() {
+		return coordinates == null ? null : coordinates.copy();
+	}
+
+	public long getNanoseconds() {
+		return nanoseconds;
+	}
+
+	// The following method returns the bytes allocated during the evaluation, or -1 if unknown.
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	/*
+	 * The following method writes the evaluation as one line of tab separated
+	 * fields: the name, then either the failure or the electrons in orbit, the
+	 * bonds as start-end:electrons:length and the coordinates as x,y,z.
+	 */
+	public String toLine() {
+		StringBuilder line = new StringBuilder(name);
+		if (failure != null)
+			return line.append("\tfailed\t").append(failure.replace('\t', ' ').replace('\n', ' ')).toString();
+		line.append("\torbit");
+		for (int a = 0; a < electronsInOrbit.length; ++a)
+			line.append(a == 0 ? '=' : ',').append(electronsInOrbit[a]);
+		line.append("\tbonds");
+		for (int b = 0; b < bondStarts.length; ++b)
+			line.append(b == 0 ? '=' : ' ').append(bondStarts[b]).append('-').append(bondEnds[b]).append(':')
+					.append(electronsInBonds[b]).append(':').append(bondLengthsInPicometers[b]);
+		line.append("\tcoordinates");
+		for (int a = 0; a < coordinates.size(); ++a)
+			line.append(a == 0 ? '=' : ' ').append(coordinate(coordinates.getX(a))).append(',')
+					.append(coordinate(coordinates.getY(a))).append(',').append(coordinate(coordinates.getZ(a)));
+		return line.toString();
+	}
+
+	private static String coordinate(double value) {
+		return Double.isNaN(value) ? "?" : String.format(Locale.ROOT, "%.3f", value);
+	}
+
+	@Override
+	public String toString() {
+		return toLine();
+	}
+}
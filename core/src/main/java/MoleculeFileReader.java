@@ -0,0 +1,640 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/*
+ * The following class reads molecules from a file one record at a time. The
+ * file is read through a mapped window, so only the record being read is held
+ * in memory, however large the file is. A record that cannot be read throws
+ * an exception, after which the reader moves on to the next record where the
+ * format allows it.
+ */
+public abstract class MoleculeFileReader implements Closeable {
+	protected final MappedLineReader lines;
+	private final String fileName;
+	private long recordNumber;
+
+	MoleculeFileReader(MappedLineReader lines, String fileName) {
+		this.lines = lines;
+		this.fileName = fileName;
+	}
+
+	// The following method opens a file in the format named by its extension.
+	public static MoleculeFileReader open(Path file) throws IOException {
+		MoleculeFormat format = MoleculeFormat.forFileName(file.getFileName().toString());
+		if (format == null)
+			throw new IOException("The format of " + file + " is not known from its name.");
+		return open(file, format);
+	}
+
+	public static MoleculeFileReader open(Path file, MoleculeFormat format) throws IOException {
+		MappedLineReader lines = new MappedLineReader(file);
+		String fileName = file.getFileName().toString();
+		switch (format) {
+		case XYZ:
+			return new XyzReader(lines, fileName);
+		case MOL:
+			return new MolReader(lines, fileName);
+		default:
+			return new SmilesReader(lines, fileName);
+		}
+	}
+
+	/*
+	 * The following method returns the next molecule, or null at the end of the
+	 * file.
+	 */
+	public final MoleculeRecord next() throws IOException, InvalidMoleculeSpecException {
+		MoleculeRecord record;
+		try {
+			record = read();
+		} catch (RuntimeException e) {
+			// A record the format checks let through must still not stop the reading of the rest.
+			throw invalid("The record cannot be read: " + e);
+		}
+		if (record != null)
+			++recordNumber;
+		return record;
+	}
+
+	protected abstract MoleculeRecord read() throws IOException, InvalidMoleculeSpecException;
+
+	// The following method returns how many records were read successfully so far.
+	public long recordNumber() {
+		return recordNumber;
+	}
+
+	// The following method returns the number of the line read last, counting from one.
+	public long lineNumber() {
+		return lines.lineNumber();
+	}
+
+	/*
+	 * The following method names a record that has no name of its own after
+	 * the file and the line it starts on.
+	 */
+	protected String defaultName(long line) {
+		return fileName + ":" + line;
+	}
+
+	protected InvalidMoleculeSpecException invalid(String reason) {
+		return new InvalidMoleculeSpecException(fileName + ":" + lines.lineNumber() + ": " + reason);
+	}
+
+	@Override
+	public void close() throws IOException {
+		lines.close();
+	}
+
+	// The following method reads an element symbol regardless of its case.
+	static int atomicNumber(String symbol) {
+		if (symbol.isEmpty())
+			return 0;
+		String normal = symbol.substring(0, 1).toUpperCase(Locale.ROOT) + symbol.substring(1).toLowerCase(Locale.ROOT);
+		ChemicalElement element = ChemicalElement.lookUpChemicalElementBySymbol(normal);
+		return element == null ? 0 : ChemicalElement.findAtomicNumberByElement(element);
+	}
+}
+
+/*
+ * The following class reads the XYZ format: the number of atoms, a comment
+ * used as the name, and a line with the symbol and coordinates in angstroms
+ * for every atom. The file holds no bonds, so two atoms are taken to bond when
+ * they are closer than their radii allow, as long as both can still form a
+ * bond.
+ */
+final class XyzReader extends MoleculeFileReader {
+	// Two atoms bond when their distance is at most this much more than the sum of their radii.
+	private static final double bondTolerance = 1.3;
+	// Radii beyond this are only estimates, so they are not trusted for finding bonds.
+	private static final int largestRadius = 300;
+
+	XyzReader(MappedLineReader lines, String fileName) {
+		super(lines, fileName);
+	}
+
+	@Override
+	protected MoleculeRecord read() throws IOException, InvalidMoleculeSpecException {
+		String line;
+		do {
+			line = lines.readLine();
+			if (line == null)
+				return null;
+		} while (line.trim().isEmpty());
+		int atomCount;
+		try {
+			atomCount = Integer.parseInt(line.trim());
+		} catch (NumberFormatException nfe) {
+			atomCount = -1;
+		}
+		if (atomCount < 0) {
+			/*
+			 * Without the number of atoms the start of the next record cannot
+			 * be found, so the rest of the file is skipped.
+			 */
+			while (lines.readLine() != null)
+				;
+			throw invalid("The number of atoms is missing or negative.");
+		}
+		long firstLine = lines.lineNumber();
+		String comment = lines.readLine();
+		String name = comment == null || comment.trim().isEmpty() ? defaultName(firstLine) : comment.trim();
+		int[] atomicNumbers = new int[atomCount];
+		CoordinateBuffer coordinates = new CoordinateBuffer(atomCount);
+		InvalidMoleculeSpecException problem = null;
+		for (int a = 0; a < atomCount; ++a) {
+			line = lines.readLine();
+			if (line == null)
+				throw invalid("The file ends in the middle of a molecule.");
+			String[] fields = line.trim().split("\\s+");
+			if (fields.length < 4) {
+				problem = problem == null ? invalid("An atom needs a symbol and three coordinates.") : problem;
+				continue;
+			}
+			atomicNumbers[a] = atomicNumber(fields[0]);
+			if (atomicNumbers[a] == 0 && SmilesParser.isDigit(fields[0].charAt(0)))
+				try {
+					atomicNumbers[a] = Integer.parseInt(fields[0]);
+				} catch (NumberFormatException nfe) {
+				}
+			if (atomicNumbers[a] < 1 || atomicNumbers[a] > 120) {
+				problem = problem == null ? invalid("Unknown element symbol: " + fields[0]) : problem;
+				continue;
+			}
+			try {
+				// One angstrom is one hundred picometers.
+				coordinates.set(a, Double.parseDouble(fields[1]) * 100.0, Double.parseDouble(fields[2]) * 100.0,
+						Double.parseDouble(fields[3]) * 100.0);
+			} catch (NumberFormatException nfe) {
+				problem = problem == null ? invalid("Coordinates must be numbers.") : problem;
+			}
+		}
+		// The whole record has been read, so the next one can still be found.
+		if (problem != null)
+			throw problem;
+		return new MoleculeRecord(new MoleculeSpec(name, atomicNumbers, perceiveBonds(atomicNumbers, coordinates)),
+				coordinates);
+	}
+
+	/*
+	 * The following method finds the bonds from the distances between atoms.
+	 * The atoms are sorted into cubes as wide as the longest possible bond, so
+	 * each atom is only compared with the atoms in the cubes around it.
+	 */
+	static int[] perceiveBonds(int[] atomicNumbers, CoordinateBuffer coordinates) {
+		int n = atomicNumbers.length;
+		if (n < 2)
+			return new int[0];
+		double[] radii = new double[n];
+		int[] capacity = new int[n];
+		double cell = 0;
+		for (int a = 0; a < n; ++a) {
+			radii[a] = Math.min(largestRadius, ChemicalElement.diameterInPicometers(atomicNumbers[a]));
+			cell = Math.max(cell, radii[a]);
+			try {
+				capacity[a] = new Atom(atomicNumbers[a]).potenialChemicalBonds();
+			} catch (InvalidAtomicNumberException ivane) {
+			}
+		}
+		cell *= 2 * bondTolerance;
+		/*
+		 * Each atom is filed under the cube it falls in. The cubes are kept in
+		 * a sorted array of keys instead of a table of lists.
+		 */
+		long[] keys = new long[n];
+		Integer[] order = new Integer[n];
+		for (int a = 0; a < n; ++a) {
+			keys[a] = cubeKey((int) Math.floor(coordinates.x[a] / cell), (int) Math.floor(coordinates.y[a] / cell),
+					(int) Math.floor(coordinates.z[a] / cell));
+			order[a] = a;
+		}
+		Arrays.sort(order, (p, q) -> Long.compare(keys[p], keys[q]));
+		long[] sortedKeys = new long[n];
+		for (int k = 0; k < n; ++k)
+			sortedKeys[k] = keys[order[k]];
+		int[] bonds = new int[8];
+		int bondCount = 0;
+		int[] degrees = new int[n];
+		for (int a = 0; a < n; ++a) {
+			int cx = (int) Math.floor(coordinates.x[a] / cell), cy = (int) Math.floor(coordinates.y[a] / cell),
+					cz = (int) Math.floor(coordinates.z[a] / cell);
+			for (int dx = -1; dx <= 1; ++dx)
+				for (int dy = -1; dy <= 1; ++dy)
+					for (int dz = -1; dz <= 1; ++dz) {
+						long key = cubeKey(cx + dx, cy + dy, cz + dz);
+						int k = Arrays.binarySearch(sortedKeys, key);
+						if (k < 0)
+							continue;
+						while (k > 0 && sortedKeys[k - 1] == key)
+							--k;
+						for (; k < n && sortedKeys[k] == key; ++k) {
+							int b = order[k];
+							// Every pair is considered once, from its lower index.
+							if (b <= a || degrees[a] >= capacity[a] || degrees[b] >= capacity[b])
+								continue;
+							double ex = coordinates.x[a] - coordinates.x[b], ey = coordinates.y[a] - coordinates.y[b],
+									ez = coordinates.z[a] - coordinates.z[b];
+							double limit = (radii[a] + radii[b]) * bondTolerance;
+							if (ex * ex + ey * ey + ez * ez > limit * limit)
+								continue;
+							if (bondCount * 2 == bonds.length)
+								bonds = Arrays.copyOf(bonds, bonds.length * 2);
+							bonds[2 * bondCount] = a;
+							bonds[2 * bondCount++ + 1] = b;
+							++degrees[a];
+							++degrees[b];
+						}
+					}
+		}
+		return Arrays.copyOf(bonds, bondCount * 2);
+	}
+
+	private static long cubeKey(int x, int y, int z) {
+		return ((long) (x & 0x1FFFFF) << 42) | ((long) (y & 0x1FFFFF) << 21) | (z & 0x1FFFFF);
+	}
+}
+
+/*
+ * The following class reads connection tables in the V2000 form, either a
+ * single MOL file or an SD file of many records each ending with $$$$. The
+ * coordinates are given in angstroms. Bond types are read but not kept, since
+ * the molecule works out how many electrons each bond holds by itself.
+ */
+final class MolReader extends MoleculeFileReader {
+	MolReader(MappedLineReader lines, String fileName) {
+		super(lines, fileName);
+	}
+
+	@Override
+	protected MoleculeRecord read() throws IOException, InvalidMoleculeSpecException {
+		String header = lines.readLine();
+		while (header != null && header.startsWith("$$$$"))
+			header = lines.readLine();
+		if (header == null)
+			return null;
+		long firstLine = lines.lineNumber();
+		String name = header.trim().isEmpty() ? defaultName(firstLine) : header.trim();
+		lines.readLine();
+		lines.readLine();
+		String counts = lines.readLine();
+		try {
+			if (counts == null || counts.length() < 6)
+				throw invalid("The counts line is missing.");
+			int atomCount = Integer.parseInt(counts.substring(0, 3).trim());
+			int bondCount = Integer.parseInt(counts.substring(3, 6).trim());
+			if (atomCount < 0 || bondCount < 0)
+				throw invalid("The number of atoms or bonds is negative.");
+			int[] atomicNumbers = new int[atomCount];
+			CoordinateBuffer coordinates = new CoordinateBuffer(atomCount);
+			for (int a = 0; a < atomCount; ++a) {
+				String[] fields = required().trim().split("\\s+");
+				if (fields.length < 4)
+					throw invalid("An atom needs three coordinates and a symbol.");
+				atomicNumbers[a] = atomicNumber(fields[3]);
+				if (atomicNumbers[a] == 0)
+					throw invalid("Unknown element symbol: " + fields[3]);
+				coordinates.set(a, Double.parseDouble(fields[0]) * 100.0, Double.parseDouble(fields[1]) * 100.0,
+						Double.parseDouble(fields[2]) * 100.0);
+			}
+			int[] bonds = new int[bondCount * 2];
+			for (int b = 0; b < bondCount; ++b) {
+				String line = required();
+				if (line.length() < 6)
+					throw invalid("A bond needs two atoms.");
+				// The atoms of a connection table are counted from one.
+				bonds[2 * b] = Integer.parseInt(line.substring(0, 3).trim()) - 1;
+				bonds[2 * b + 1] = Integer.parseInt(line.substring(3, 6).trim()) - 1;
+			}
+			skipToEnd();
+			return new MoleculeRecord(new MoleculeSpec(name, atomicNumbers, bonds), coordinates);
+		} catch (NumberFormatException | InvalidMoleculeSpecException e) {
+			skipToEnd();
+			if (e instanceof InvalidMoleculeSpecException)
+				throw (InvalidMoleculeSpecException) e;
+			throw invalid("A number could not be read: " + e.getMessage());
+		}
+	}
+
+	private String required() throws IOException, InvalidMoleculeSpecException {
+		String line = lines.readLine();
+		if (line == null)
+			throw invalid("The file ends in the middle of a molecule.");
+		return line;
+	}
+
+	/*
+	 * The following method skips the properties and data items after the
+	 * tables, up to and including the line that ends the record.
+	 */
+	private void skipToEnd() throws IOException {
+		String line;
+		while ((line = lines.readLine()) != null && !line.startsWith("$$$$"))
+			;
+	}
+}
+
+/*
+ * The following class reads one SMILES string per line, followed by an
+ * optional name. It understands the common subset: the organic atoms written
+ * alone, bracket atoms with an explicit hydrogen count, aromatic atoms in
+ * lower case, branches, ring closures and bond symbols. Charges, isotopes and
+ * stereochemistry are read and ignored. The atoms of the organic subset get
+ * the hydrogens their usual valence implies, and every hydrogen is added as
+ * an atom after the atoms written in the string.
+ */
+final class SmilesReader extends MoleculeFileReader {
+	SmilesReader(MappedLineReader lines, String fileName) {
+		super(lines, fileName);
+	}
+
+	@Override
+	protected MoleculeRecord read() throws IOException, InvalidMoleculeSpecException {
+		String line;
+		do {
+			line = lines.readLine();
+			if (line == null)
+				return null;
+			line = line.trim();
+		} while (line.isEmpty() || line.startsWith("#"));
+		String[] fields = line.split("\\s+", 2);
+		String name = fields.length > 1 ? fields[1].trim() : defaultName(lines.lineNumber());
+		try {
+			return new MoleculeRecord(new SmilesParser(fields[0]).parse(name), null);
+		} catch (InvalidMoleculeSpecException ivmse) {
+			throw invalid(ivmse.getMessage());
+		}
+	}
+}
+
+/*
+ * The following class turns one SMILES string into a molecule description.
+ */
+final class SmilesParser {
+	// The following atoms may be written without brackets.
+	private static final String[] organicSubset = { "B", "C", "N", "O", "P", "S", "F", "Cl", "Br", "I", "b", "c", "n",
+			"o", "p", "s" };
+	private final String smiles;
+	private int position;
+	private int[] atomicNumbers = new int[16];
+	private boolean[] aromatic = new boolean[16];
+	// A bracket atom has its hydrogens written out, so it gets no more; -1 means they are implied.
+	private int[] hydrogens = new int[16];
+	private int[] valences = new int[16];
+	private int atomCount;
+	private int[] bonds = new int[32];
+	private int bondCount;
+	private final int[] ringAtoms = new int[100];
+	private final int[] ringOrders = new int[100];
+
+	SmilesParser(String smiles) {
+		this.smiles = smiles;
+		Arrays.fill(ringAtoms, -1);
+	}
+
+	MoleculeSpec parse(String name) throws InvalidMoleculeSpecException {
+		int previous = -1;
+		int order = 0;
+		int[] branches = new int[8];
+		int depth = 0;
+		while (position < smiles.length()) {
+			char c = smiles.charAt(position);
+			switch (c) {
+			case '(':
+				if (previous < 0)
+					throw invalid("A branch must follow an atom.");
+				if (depth == branches.length)
+					branches = Arrays.copyOf(branches, depth * 2);
+				branches[depth++] = previous;
+				++position;
+				break;
+			case ')':
+				if (depth == 0)
+					throw invalid("A branch is closed that was never opened.");
+				previous = branches[--depth];
+				++position;
+				break;
+			case '-':
+			case '/':
+			case '\\':
+			case ':':
+				order = 1;
+				++position;
+				break;
+			case '=':
+				order = 2;
+				++position;
+				break;
+			case '#':
+				order = 3;
+				++position;
+				break;
+			case '$':
+				order = 4;
+				++position;
+				break;
+			case '.':
+				previous = -1;
+				order = 0;
+				++position;
+				break;
+			case '%':
+			default:
+				if (c == '%' || isDigit(c)) {
+					if (previous < 0)
+						throw invalid("A ring closure must follow an atom.");
+					ringClosure(previous, ringNumber(), order);
+					order = 0;
+					break;
+				}
+				int atom = c == '[' ? bracketAtom() : organicAtom();
+				if (previous >= 0)
+					bond(previous, atom, order == 0 ? 1 : order);
+				previous = atom;
+				order = 0;
+			}
+		}
+		if (depth != 0)
+			throw invalid("A branch is never closed.");
+		for (int r = 0; r < ringAtoms.length; ++r)
+			if (ringAtoms[r] >= 0)
+				throw invalid("Ring " + r + " is never closed.");
+		return withHydrogens(name);
+	}
+
+	// Only the ASCII digits are digits in SMILES; Character.isDigit would take the digits of other scripts too.
+	static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private int ringNumber() throws InvalidMoleculeSpecException {
+		if (smiles.charAt(position) != '%')
+			return smiles.charAt(position++) - '0';
+		if (position + 2 >= smiles.length() || !isDigit(smiles.charAt(position + 1))
+				|| !isDigit(smiles.charAt(position + 2)))
+			throw invalid("A ring number after % must have two digits.");
+		int number = Integer.parseInt(smiles.substring(position + 1, position + 3));
+		position += 3;
+		return number;
+	}
+
+	private void ringClosure(int atom, int number, int order) throws InvalidMoleculeSpecException {
+		if (ringAtoms[number] < 0) {
+			ringAtoms[number] = atom;
+			ringOrders[number] = order;
+			return;
+		}
+		int other = ringAtoms[number];
+		ringAtoms[number] = -1;
+		if (other == atom)
+			throw invalid("An atom cannot close a ring to itself.");
+		for (int b = 0; b < bondCount; ++b)
+			if (bonds[2 * b] == atom && bonds[2 * b + 1] == other || bonds[2 * b] == other && bonds[2 * b + 1] == atom)
+				throw invalid("Atoms " + other + " and " + atom + " are bonded twice.");
+		bond(other, atom, Math.max(1, Math.max(order, ringOrders[number])));
+	}
+
+	private int organicAtom() throws InvalidMoleculeSpecException {
+		char c = smiles.charAt(position);
+		String symbol;
+		if ((c == 'C' || c == 'B') && position + 1 < smiles.length()
+				&& smiles.charAt(position + 1) == (c == 'C' ? 'l' : 'r'))
+			symbol = smiles.substring(position, position + 2);
+		else
+			symbol = String.valueOf(c);
+		if (!Arrays.asList(organicSubset).contains(symbol))
+			throw invalid("Unexpected character " + c + ".");
+		position += symbol.length();
+		return addAtom(MoleculeFileReader.atomicNumber(symbol), Character.isLowerCase(symbol.charAt(0)), -1);
+	}
+
+	private int bracketAtom() throws InvalidMoleculeSpecException {
+		int close = smiles.indexOf(']', position);
+		if (close < 0)
+			throw invalid("A bracket atom is never closed.");
+		String inside = smiles.substring(position + 1, close);
+		position = close + 1;
+		int i = 0;
+		while (i < inside.length() && isDigit(inside.charAt(i)))
+			// The isotope makes no difference to the bonds.
+			++i;
+		if (i == inside.length() || !Character.isLetter(inside.charAt(i)))
+			throw invalid("A bracket atom needs an element symbol.");
+		boolean isAromatic = Character.isLowerCase(inside.charAt(i));
+		int symbolEnd = i + 1;
+		// A two letter symbol is taken if it names an element, and one letter otherwise.
+		if (symbolEnd < inside.length() && Character.isLowerCase(inside.charAt(symbolEnd))
+				&& MoleculeFileReader.atomicNumber(inside.substring(i, symbolEnd + 1)) != 0)
+			++symbolEnd;
+		int atomicNumber = MoleculeFileReader.atomicNumber(inside.substring(i, symbolEnd));
+		if (atomicNumber == 0)
+			throw invalid("Unknown element symbol: " + inside.substring(i, symbolEnd));
+		i = symbolEnd;
+		while (i < inside.length() && inside.charAt(i) == '@')
+			++i;
+		int hydrogenCount = 0;
+		if (i < inside.length() && inside.charAt(i) == 'H') {
+			++i;
+			hydrogenCount = 1;
+			int digits = i;
+			while (i < inside.length() && isDigit(inside.charAt(i)))
+				++i;
+			if (i > digits)
+				hydrogenCount = Integer.parseInt(inside.substring(digits, i));
+		}
+		// The charge and atom class are ignored.
+		return addAtom(atomicNumber, isAromatic, hydrogenCount);
+	}
+
+	private int addAtom(int atomicNumber, boolean isAromatic, int hydrogenCount) {
+		if (atomCount == atomicNumbers.length) {
+			atomicNumbers = Arrays.copyOf(atomicNumbers, atomCount * 2);
+			aromatic = Arrays.copyOf(aromatic, atomCount * 2);
+			hydrogens = Arrays.copyOf(hydrogens, atomCount * 2);
+			valences = Arrays.copyOf(valences, atomCount * 2);
+		}
+		atomicNumbers[atomCount] = atomicNumber;
+		aromatic[atomCount] = isAromatic;
+		hydrogens[atomCount] = hydrogenCount;
+		return atomCount++;
+	}
+
+	/*
+	 * The following method records a bond. Only a ring closure can name a pair
+	 * of atoms a second time, so that is where bonds are checked for repeats.
+	 */
+	private void bond(int atom, int other, int order) {
+		if (bondCount * 2 == bonds.length)
+			bonds = Arrays.copyOf(bonds, bonds.length * 2);
+		bonds[2 * bondCount] = atom;
+		bonds[2 * bondCount++ + 1] = other;
+		valences[atom] += order;
+		valences[other] += order;
+	}
+
+	/*
+	 * The following method adds the hydrogens: the number written in a bracket
+	 * atom, or for the organic subset the fewest that bring the atom to one of
+	 * its usual valences. An aromatic atom uses one more of its valence for the
+	 * ring, and only takes hydrogens up to its lowest valence, so the sulfur of
+	 * thiophene and the nitrogen bonded out of an aromatic ring get none.
+	 */
+	private MoleculeSpec withHydrogens(String name) throws InvalidMoleculeSpecException {
+		int heavyAtoms = atomCount;
+		for (int a = 0; a < heavyAtoms; ++a) {
+			int count = hydrogens[a];
+			if (count < 0)
+				count = impliedHydrogens(atomicNumbers[a], valences[a], aromatic[a]);
+			for (int h = 0; h < count; ++h) {
+				int hydrogen = addAtom(1, false, 0);
+				bond(a, hydrogen, 1);
+			}
+		}
+		return new MoleculeSpec(name, Arrays.copyOf(atomicNumbers, atomCount), Arrays.copyOf(bonds, bondCount * 2));
+	}
+
+	static int impliedHydrogens(int atomicNumber, int valence) {
+		return impliedHydrogens(atomicNumber, valence, false);
+	}
+
+	static int impliedHydrogens(int atomicNumber, int valence, boolean aromatic) {
+		int[] usual;
+		switch (atomicNumber) {
+		case 5:
+			usual = new int[] { 3 };
+			break;
+		case 6:
+			usual = new int[] { 4 };
+			break;
+		case 7:
+		case 15:
+			usual = new int[] { 3, 5 };
+			break;
+		case 8:
+			usual = new int[] { 2 };
+			break;
+		case 16:
+			usual = new int[] { 2, 4, 6 };
+			break;
+		case 9:
+		case 17:
+		case 35:
+		case 53:
+			usual = new int[] { 1 };
+			break;
+		default:
+			return 0;
+		}
+		if (aromatic)
+			return Math.max(0, usual[0] - valence - 1);
+		for (int v : usual)
+			if (v >= valence)
+				return v - valence;
+		return 0;
+	}
+
+	private InvalidMoleculeSpecException invalid(String reason) {
+		return new InvalidMoleculeSpecException(reason + " (SMILES " + smiles + ", at " + position + ")");
+	}
+}
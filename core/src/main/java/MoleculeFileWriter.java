@@ -0,0 +1,420 @@
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+
+/*
+ * The following class writes molecules to a stream one record at a time, in
+ * any of the formats MoleculeFileReader reads. A record without coordinates is
+ * given the ones the molecule calculates. Nothing is kept between records, so
+ * any number of molecules can be written.
+ */
+public final class MoleculeFileWriter implements Closeable, Flushable {
+	private final Writer out;
+	private final MoleculeFormat format;
+
+	public MoleculeFileWriter(OutputStream out, MoleculeFormat format) {
+		this(new OutputStreamWriter(out, StandardCharsets.UTF_8), format);
+	}
+
+	public MoleculeFileWriter(Writer out, MoleculeFormat format) {
+		this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out, 1 << 16);
+		this.format = format;
+	}
+
+	public void write(MoleculeRecord record) throws IOException {
+		switch (format) {
+		case XYZ:
+			writeXyz(record);
+			break;
+		case MOL:
+			writeMol(record);
+			break;
+		default:
+			writeSmiles(record);
+		}
+	}
+
+	public void write(MoleculeSpec spec) throws IOException {
+		write(new MoleculeRecord(spec, null));
+	}
+
+	private void writeXyz(MoleculeRecord record) throws IOException {
+		MoleculeSpec spec = record.getSpec();
+		CoordinateBuffer coordinates = coordinates(record);
+		out.write(Integer.toString(spec.atomCount()));
+		out.write('\n');
+		out.write(spec.getName().replace('\n', ' '));
+		out.write('\n');
+		for (int a = 0; a < spec.atomCount(); ++a)
+			out.write(String.format(Locale.ROOT, "%-2s %12.6f %12.6f %12.6f\n",
+					ChemicalElement.symbolOf(spec.atomicNumber(a)), angstroms(coordinates.getX(a)), angstroms(coordinates.getY(a)), angstroms(coordinates.getZ(a))));
+	}
+
+	/*
+	 * The following method writes a V2000 connection table ending with $$$$,
+	 * so that records written one after another make an SD file.
+	 */
+	private void writeMol(MoleculeRecord record) throws IOException {
+		MoleculeSpec spec = record.getSpec();
+		if (spec.atomCount() > 999 || spec.bondCount() > 999)
+			throw new IOException("A V2000 connection table holds at most 999 atoms and 999 bonds.");
+		CoordinateBuffer coordinates = coordinates(record);
+		Molecule.configuration electronConfiguration = configuration(record);
+		out.write(spec.getName().replace('\n', ' '));
+		out.write("\n  Alchemy\n\n");
+		out.write(String.format(Locale.ROOT, "%3d%3d  0  0  0  0  0  0  0  0999 V2000\n", spec.atomCount(),
+				spec.bondCount()));
+		for (int a = 0; a < spec.atomCount(); ++a)
+			out.write(String.format(Locale.ROOT, "%10.4f%10.4f%10.4f %-3s 0  0  0  0  0  0  0  0  0  0  0  0\n",
+					angstroms(coordinates.getX(a)), angstroms(coordinates.getY(a)), angstroms(coordinates.getZ(a)),
+					ChemicalElement.symbolOf(spec.atomicNumber(a))));
+		for (int b = 0; b < spec.bondCount(); ++b)
+			out.write(String.format(Locale.ROOT, "%3d%3d%3d  0\n", spec.bondStart(b) + 1, spec.bondEnd(b) + 1,
+					bondOrder(electronConfiguration, spec.bondStart(b), spec.bondEnd(b))));
+		out.write("M  END\n$$$$\n");
+	}
+
+	/*
+	 * The following method writes a SMILES string followed by the name. A
+	 * hydrogen bonded to exactly one other atom that is not a hydrogen is
+	 * written as part of that atom. An atom is written in brackets with its
+	 * hydrogen count unless the reader would imply the same count by itself.
+	 */
+	private void writeSmiles(MoleculeRecord record) throws IOException {
+		MoleculeSpec spec = record.getSpec();
+		int n = spec.atomCount();
+		Molecule.configuration electronConfiguration = configuration(record);
+		BondGraph graph = spec.bondGraph();
+		boolean[] folded = new boolean[n];
+		int[] hydrogens = new int[n];
+		for (int a = 0; a < n; ++a)
+			if (spec.atomicNumber(a) == 1 && graph.degree(a) == 1 && spec.atomicNumber(graph.neighbour(a, 0)) != 1) {
+				folded[a] = true;
+				++hydrogens[graph.neighbour(a, 0)];
+			}
+		new SmilesWriter(spec, graph, electronConfiguration, folded, hydrogens).write(out);
+		out.write(' ');
+		out.write(spec.getName().replace('\n', ' '));
+		out.write('\n');
+	}
+
+	private static CoordinateBuffer coordinates(MoleculeRecord record) {
+		if (record.hasCoordinates())
+			return record.getCoordinates();
+		try {
+			return record.molecule().molecularCoordinateBuffer();
+		} catch (InvalidAtomicNumberException | InvalidChemicalBondException | InvalidObjectWebSizeException
+				| NumberTooLargeException | InvalidDimensionUseException | RuntimeException e) {
+			// A molecule that cannot be placed is written with every atom at the origin.
+			return new CoordinateBuffer(record.getSpec().atomCount());
+		}
+	}
+
+	// The following method returns the electron configuration, or null if the molecule cannot be built.
+	private static Molecule.configuration configuration(MoleculeRecord record) {
+		try {
+			return record.molecule().electronOrbitConfiguration();
+		} catch (InvalidAtomicNumberException | InvalidChemicalBondException | InvalidObjectWebSizeException
+				| RuntimeException e) {
+			return null;
+		}
+	}
+
+	static int bondOrder(Molecule.configuration electronConfiguration, int atom, int other) {
+		if (electronConfiguration == null)
+			return 1;
+		return Math.max(1, electronConfiguration.electronsInBond(atom, other) / 2);
+	}
+
+	private static double angstroms(double picometers) {
+		return Double.isNaN(picometers) ? 0.0 : picometers / 100.0;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+}
+
+/*
+ * The following class walks a molecule depth first and writes it as SMILES.
+ * A bond back to an atom already written becomes a ring closure. The walk
+ * keeps its own stack rather than recursing, so a long chain cannot overflow
+ * the thread's stack.
+ */
+final class SmilesWriter {
+	// SMILES has ring numbers from 1 to 99.
+	static final int ringNumbers = 99;
+	private final MoleculeSpec spec;
+	private final BondGraph graph;
+	private final Molecule.configuration electronConfiguration;
+	private final boolean[] folded;
+	private final int[] hydrogens;
+	private final boolean[] visited;
+	// The following set holds the bonds written as ring closures, keyed by both atoms.
+	private final HashSet<Long> ringBonds = new HashSet<Long>();
+	// The following array holds the ring numbers to write after each atom.
+	private final StringBuilder[] ringLabels;
+	// The rings of the component being written, as the atom that opens each and the atom that closes it.
+	private int[] rings = new int[16];
+	private int ringCount;
+	private final boolean[] ringNumberUsed = new boolean[ringNumbers + 1];
+	// The atoms of the component being written, in the order they are written, and where each one comes.
+	private final int[] order;
+	private final int[] position;
+	private int orderCount;
+	// The following arrays hold the path from the first atom of the component to the atom being visited.
+	private final int[] stack, parents, next, remaining;
+	private final boolean[] branches;
+
+	SmilesWriter(MoleculeSpec spec, BondGraph graph, Molecule.configuration electronConfiguration, boolean[] folded,
+			int[] hydrogens) {
+		this.spec = spec;
+		this.graph = graph;
+		this.electronConfiguration = electronConfiguration;
+		this.folded = folded;
+		this.hydrogens = hydrogens;
+		int n = spec.atomCount();
+		visited = new boolean[n];
+		ringLabels = new StringBuilder[n];
+		order = new int[n];
+		position = new int[n];
+		stack = new int[n];
+		parents = new int[n];
+		next = new int[n];
+		remaining = new int[n];
+		branches = new boolean[n];
+	}
+
+	void write(Writer out) throws IOException {
+		StringBuilder smiles = new StringBuilder();
+		boolean[] written = new boolean[spec.atomCount()];
+		for (int a = 0; a < spec.atomCount(); ++a)
+			if (!written[a] && !folded[a]) {
+				if (smiles.length() > 0)
+					smiles.append('.');
+				findRings(a);
+				numberRings();
+				// The component is walked a second time to write it, so the marks are cleared.
+				for (int v = 0; v < visited.length; ++v)
+					written[v] |= visited[v];
+				Arrays.fill(visited, false);
+				writeComponent(a, smiles);
+			}
+		out.write(smiles.toString());
+	}
+
+	/*
+	 * The following method finds the ring closures of a component before
+	 * anything is written, since a ring's number has to appear at its first
+	 * atom. It visits the atoms in the same order writeComponent does.
+	 */
+	private void findRings(int start) {
+		ringCount = 0;
+		orderCount = 0;
+		int depth = 0;
+		enter(0, start, -1);
+		visit(start);
+		while (depth >= 0) {
+			int atom = stack[depth];
+			if (next[depth] == graph.degree(atom)) {
+				--depth;
+				continue;
+			}
+			int other = graph.neighbour(atom, next[depth]++);
+			if (other == parents[depth] || folded[other])
+				continue;
+			if (!visited[other]) {
+				visit(other);
+				enter(++depth, other, atom);
+			} else if (ringBonds.add(key(atom, other))) {
+				// The atom visited first is an ancestor of this one, so it is written first and opens the ring.
+				if (2 * ringCount == rings.length)
+					rings = Arrays.copyOf(rings, rings.length * 2);
+				rings[2 * ringCount] = other;
+				rings[2 * ringCount + 1] = atom;
+				++ringCount;
+			}
+		}
+	}
+
+	private void visit(int atom) {
+		visited[atom] = true;
+		position[atom] = orderCount;
+		order[orderCount++] = atom;
+	}
+
+	private void enter(int depth, int atom, int parent) {
+		stack[depth] = atom;
+		parents[depth] = parent;
+		next[depth] = 0;
+	}
+
+	/*
+	 * The following method gives every ring of the component a number. The
+	 * atoms are taken in the order they are written, and a ring takes the
+	 * lowest number not held by a ring still open, so numbers are used again
+	 * once their rings close. A number closed at an atom is only free after
+	 * that atom, so no atom both closes and opens a ring with the same number.
+	 */
+	private void numberRings() throws IOException {
+		if (ringCount == 0)
+			return;
+		// Each ring appears twice, where it closes and where it opens, sorted by the place of the atom in the order.
+		long[] events = new long[2 * ringCount];
+		for (int r = 0; r < ringCount; ++r) {
+			events[2 * r] = (long) position[rings[2 * r + 1]] << 33 | r;
+			events[2 * r + 1] = (long) position[rings[2 * r]] << 33 | 1L << 32 | r;
+		}
+		Arrays.sort(events);
+		int[] numbers = new int[ringCount];
+		for (int first = 0, last; first < events.length; first = last) {
+			int atom = order[(int) (events[first] >>> 33)];
+			for (last = first; last < events.length && events[last] >>> 33 == events[first] >>> 33; ++last) {
+				int r = (int) events[last];
+				if ((events[last] & 1L << 32) == 0)
+					labels(atom).append(ringLabel(numbers[r]));
+				else {
+					numbers[r] = freeRingNumber();
+					labels(atom).append(bondSymbol(bondOrder(rings[2 * r], rings[2 * r + 1])))
+							.append(ringLabel(numbers[r]));
+				}
+			}
+			for (int e = first; e < last; ++e)
+				if ((events[e] & 1L << 32) == 0)
+					ringNumberUsed[numbers[(int) events[e]]] = false;
+		}
+	}
+
+	private int freeRingNumber() throws IOException {
+		for (int number = 1; number <= ringNumbers; ++number)
+			if (!ringNumberUsed[number]) {
+				ringNumberUsed[number] = true;
+				return number;
+			}
+		throw new IOException("More than " + ringNumbers + " rings are open at once, which SMILES cannot write.");
+	}
+
+	private static String ringLabel(int number) {
+		return number < 10 ? Integer.toString(number) : "%" + number;
+	}
+
+	// The following method writes a component, every child of an atom but the last as a branch.
+	private void writeComponent(int start, StringBuilder smiles) {
+		int depth = 0;
+		enter(0, start, -1);
+		branches[0] = false;
+		remaining[0] = writeAtom(start, -1, smiles);
+		while (depth >= 0) {
+			int atom = stack[depth];
+			if (next[depth] == graph.degree(atom)) {
+				if (branches[depth])
+					smiles.append(')');
+				--depth;
+				continue;
+			}
+			int other = graph.neighbour(atom, next[depth]++);
+			if (!isChild(atom, parents[depth], other))
+				continue;
+			boolean branch = --remaining[depth] > 0;
+			if (branch)
+				smiles.append('(');
+			smiles.append(bondSymbol(bondOrder(atom, other)));
+			enter(++depth, other, atom);
+			branches[depth] = branch;
+			remaining[depth] = writeAtom(other, atom, smiles);
+		}
+	}
+
+	// The following method writes one atom with its ring numbers, and returns how many children it has.
+	private int writeAtom(int atom, int parent, StringBuilder smiles) {
+		visited[atom] = true;
+		int atomicNumber = spec.atomicNumber(atom);
+		int valence = 0;
+		for (int k = 0; k < graph.degree(atom); ++k) {
+			int other = graph.neighbour(atom, k);
+			if (!folded[other])
+				valence += bondOrder(atom, other);
+		}
+		String symbol = ChemicalElement.symbolOf(atomicNumber);
+		if (isOrganic(symbol) && SmilesParser.impliedHydrogens(atomicNumber, valence) == hydrogens[atom])
+			smiles.append(symbol);
+		else {
+			smiles.append('[').append(symbol);
+			if (hydrogens[atom] > 0)
+				smiles.append('H');
+			if (hydrogens[atom] > 1)
+				smiles.append(hydrogens[atom]);
+			smiles.append(']');
+		}
+		if (ringLabels[atom] != null)
+			smiles.append(ringLabels[atom]);
+		int children = 0;
+		for (int k = 0; k < graph.degree(atom); ++k)
+			if (isChild(atom, parent, graph.neighbour(atom, k)))
+				++children;
+		return children;
+	}
+
+	private boolean isChild(int atom, int parent, int other) {
+		return other != parent && !folded[other] && !visited[other] && !ringBonds.contains(key(atom, other));
+	}
+
+	private StringBuilder labels(int atom) {
+		if (ringLabels[atom] == null)
+			ringLabels[atom] = new StringBuilder();
+		return ringLabels[atom];
+	}
+
+	private static long key(int atom, int other) {
+		return (long) Math.min(atom, other) << 32 | Math.max(atom, other);
+	}
+
+	private int bondOrder(int atom, int other) {
+		return MoleculeFileWriter.bondOrder(electronConfiguration, atom, other);
+	}
+
+	private static String bondSymbol(int order) {
+		switch (order) {
+		case 2:
+			return "=";
+		case 3:
+			return "#";
+		case 4:
+			return "$";
+		default:
+			return "";
+		}
+	}
+
+	private static boolean isOrganic(String symbol) {
+		switch (symbol) {
+		case "B":
+		case "C":
+		case "N":
+		case "O":
+		case "P":
+		case "S":
+		case "F":
+		case "Cl":
+		case "Br":
+		case "I":
+			return true;
+		default:
+			return false;
+		}
+	}
+}
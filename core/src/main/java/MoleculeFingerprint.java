@@ -0,0 +1,100 @@
+import java.util.List;
+
+/*
+ * The following class turns a molecule into a path fingerprint: a fixed
+ * number of bits, each set by one or more of the chains of bonded atoms in the
+ * molecule. Every chain in a fragment is also a chain in any molecule that
+ * contains the fragment, so a molecule can only contain the fragment if its
+ * fingerprint has every bit of the fragment's fingerprint set. Fingerprints of
+ * atom environments, as in circular fingerprints, do not keep that property,
+ * since an atom gains neighbours when the fragment is part of something
+ * larger, so they are not used for screening.
+ */
+final class MoleculeFingerprint {
+	static final int defaultBits = 1024;
+	// The longest chain followed, in bonds.
+	static final int defaultPathLength = 6;
+
+	private MoleculeFingerprint() {
+	}
+
+	static long[] of(Molecule molecule) {
+		List<Atom> allAtoms = molecule.getAllAtoms();
+		int[] atomicNumbers = new int[allAtoms.size()];
+		for (int a = 0; a < atomicNumbers.length; ++a)
+			atomicNumbers[a] = allAtoms.get(a).getAtomicNumber();
+		return of(atomicNumbers, molecule.bondGraph().compress(), defaultPathLength, defaultBits);
+	}
+
+	/*
+	 * The following method follows every simple chain of at most pathLength
+	 * bonds from every atom and sets one bit for each. The number of bits must
+	 * be a multiple of 64.
+	 */
+	static long[] of(int[] atomicNumbers, CompressedBonds bonds, int pathLength, int bits) {
+		if (bits <= 0 || bits % 64 != 0)
+			throw new IllegalArgumentException("The number of bits must be a positive multiple of 64.");
+		long[] fingerprint = new long[bits / 64];
+		int size = atomicNumbers.length;
+		int[] path = new int[pathLength + 1];
+		// The following array holds the next bond slot to follow from each atom of the path.
+		int[] nextSlot = new int[pathLength + 1];
+		boolean[] onPath = new boolean[size];
+		for (int start = 0; start < size; ++start) {
+			int depth = 0;
+			path[0] = start;
+			nextSlot[0] = bonds.offsets[start];
+			onPath[start] = true;
+			set(fingerprint, bits, atomicNumbers, path, 1);
+			while (depth >= 0) {
+				int atom = path[depth];
+				if (depth == pathLength || nextSlot[depth] == bonds.offsets[atom + 1]) {
+					onPath[atom] = false;
+					--depth;
+					continue;
+				}
+				int other = bonds.targets[nextSlot[depth]++];
+				if (onPath[other])
+					continue;
+				path[++depth] = other;
+				nextSlot[depth] = bonds.offsets[other];
+				onPath[other] = true;
+				set(fingerprint, bits, atomicNumbers, path, depth + 1);
+			}
+		}
+		return fingerprint;
+	}
+
+	/*
+	 * The following method sets the bit of one chain. A chain is the same read
+	 * from either end, so it is hashed in whichever direction reads smaller.
+	 */
+	private static void set(long[] fingerprint, int bits, int[] atomicNumbers, int[] path, int length) {
+		boolean forward = true;
+		for (int k = 0; k < length / 2; ++k) {
+			int front = atomicNumbers[path[k]], back = atomicNumbers[path[length - 1 - k]];
+			if (front != back) {
+				forward = front < back;
+				break;
+			}
+		}
+		long h = 0xCBF29CE484222325L ^ length;
+		for (int k = 0; k < length; ++k) {
+			h ^= atomicNumbers[path[forward ? k : length - 1 - k]];
+			h *= 0x100000001B3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		int bit = (int) ((h & Long.MAX_VALUE) % bits);
+		fingerprint[bit >>> 6] |= 1L << bit;
+	}
+
+	// The following method says whether every bit of the fragment is set in the fingerprint.
+	static boolean contains(long[] fingerprint, long[] fragment) {
+		for (int w = 0; w < fragment.length; ++w)
+			if ((fragment[w] & ~fingerprint[w]) != 0)
+				return false;
+		return true;
+	}
+}
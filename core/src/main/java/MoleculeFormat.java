@@ -0,0 +1,36 @@
+import java.util.Locale;
+
+/*
+ * The following enumeration lists the file formats molecules can be read from
+ * and written to, with the file name extensions each one is known by.
+ */
+public enum MoleculeFormat {
+	// Atoms with coordinates in angstroms; the bonds are found from the distances.
+	XYZ("xyz"),
+	// Connection tables in the V2000 form, one or many records separated by $$$$.
+	MOL("mol", "sdf", "sd"),
+	// One SMILES string per line, optionally followed by a name.
+	SMILES("smi", "smiles");
+
+	private final String[] extensions;
+
+	MoleculeFormat(String... extensions) {
+		this.extensions = extensions;
+	}
+
+	/*
+	 * The following method finds the format of a file from its name, or returns
+	 * null if the extension is not known.
+	 */
+	public static MoleculeFormat forFileName(String fileName) {
+		int dot = fileName.lastIndexOf('.');
+		if (dot < 0)
+			return null;
+		String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+		for (MoleculeFormat format : values())
+			for (String known : format.extensions)
+				if (known.equals(extension))
+					return format;
+		return null;
+	}
+}
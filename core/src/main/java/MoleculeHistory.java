@@ -0,0 +1,59 @@
+import java.util.ArrayList;
+
+/*
+ * The following class keeps the versions of a molecule being edited, so that
+ * changes can be undone and redone. Versions share nearly all of their
+ * contents with each other, so keeping a long history costs little. Recording
+ * a version after undoing drops the versions that could have been redone.
+ */
+public final class MoleculeHistory {
+	private final ArrayList<MoleculeSnapshot> versions = new ArrayList<MoleculeSnapshot>();
+	// The following number is the place of the current version.
+	private int current = -1;
+
+	public MoleculeHistory() {
+	}
+
+	public MoleculeHistory(MoleculeSnapshot first) {
+		record(first);
+	}
+
+	public void record(MoleculeSnapshot version) {
+		if (current >= 0 && versions.get(current) == version)
+			return;
+		versions.subList(current + 1, versions.size()).clear();
+		versions.add(version);
+		++current;
+	}
+
+	public boolean canUndo() {
+		return current > 0;
+	}
+
+	public boolean canRedo() {
+		return current < versions.size() - 1;
+	}
+
+	// The following method returns the version before the current one, which then becomes current.
+	public MoleculeSnapshot undo() {
+		if (!canUndo())
+			throw new IllegalStateException("There is nothing to undo.");
+		return versions.get(--current);
+	}
+
+	public MoleculeSnapshot redo() {
+		if (!canRedo())
+			throw new IllegalStateException("There is nothing to redo.");
+		return versions.get(++current);
+	}
+
+	public MoleculeSnapshot current() {
+		if (current < 0)
+			throw new IllegalStateException("Nothing has been recorded.");
+		return versions.get(current);
+	}
+
+	public int size() {
+		return versions.size();
+	}
+}
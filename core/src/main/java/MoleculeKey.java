@@ -0,0 +1,95 @@
+import java.util.Arrays;
+
+/*
+ * The following class identifies the structure of a molecule regardless of
+ * the order its atoms were listed in. Two keys are equal exactly when their
+ * molecules have the same elements bonded in the same way, so keys can be put
+ * in hash tables to find repeated molecules in a large batch without
+ * comparing the molecules pairwise. The canonical description is kept along
+ * with the hashes, so two different structures are never taken as equal even
+ * if their hashes collide. Objects of this class never change.
+ */
+public final class MoleculeKey {
+	private final int[] code;
+	private final long hash64;
+	private final long hash128High, hash128Low;
+
+	private MoleculeKey(int[] code) {
+		this.code = code;
+		hash64 = hash(code, 0x9E3779B97F4A7C15L, 0xFF51AFD7ED558CCDL);
+		hash128High = hash(code, 0xC2B2AE3D27D4EB4FL, 0x9FB21C651E98DF25L);
+		hash128Low = hash64 ^ hash(code, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L);
+	}
+
+	static MoleculeKey of(int[] atomicNumbers, CompressedBonds bonds) {
+		return new MoleculeKey(new CanonicalLabeller(atomicNumbers, bonds).code());
+	}
+
+	public static MoleculeKey of(MoleculeSpec spec) {
+		return of(spec.atomicNumbers(), spec.bondGraph().compress());
+	}
+
+	/*
+	 * The following method mixes every number of the description into a 64 bit
+	 * hash and scrambles the result, so that similar molecules land far apart.
+	 */
+	private static long hash(int[] code, long seed, long multiplier) {
+		long h = seed ^ code.length * multiplier;
+		for (int value : code) {
+			h ^= value;
+			h *= multiplier;
+			h = Long.rotateLeft(h, 31);
+		}
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	public long hash64() {
+		return hash64;
+	}
+
+	// The following two methods return the upper and lower halves of the 128 bit hash.
+	public long hash128High() {
+		return hash128High;
+	}
+
+	public long hash128Low() {
+		return hash128Low;
+	}
+
+	public int atomCount() {
+		return code[0];
+	}
+
+	/*
+	 * The following method returns the canonical description: the number of
+	 * atoms, their atomic numbers in canonical order, then the bonds as pairs.
+	 */
+	public int[] canonicalCode() {
+		return code.clone();
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other)
+			return true;
+		if (!(other instanceof MoleculeKey))
+			return false;
+		MoleculeKey key = (MoleculeKey) other;
+		return hash128High == key.hash128High && hash128Low == key.hash128Low && Arrays.equals(code, key.code);
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (hash64 ^ hash64 >>> 32);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%016x%016x", hash128High, hash128Low);
+	}
+}
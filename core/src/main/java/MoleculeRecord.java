@@ -0,0 +1,40 @@
+/*
+ * The following class is one molecule read from a file: its description and,
+ * if the file had them, the coordinates of its atoms in picometers. The
+ * molecule itself is only built the first time it is asked for, so a reader
+ * can pass over many records cheaply. Records are meant to be used by one
+ * thread at a time.
+ */
+public final class MoleculeRecord {
+	private final MoleculeSpec spec;
+	private final CoordinateBuffer coordinates;
+	private Molecule molecule;
+
+	public MoleculeRecord(MoleculeSpec spec, CoordinateBuffer coordinates) {
+		if (coordinates != null && coordinates.size() != spec.atomCount())
+			throw new IllegalArgumentException("There must be exactly one coordinate for every atom.");
+		this.spec = spec;
+		this.coordinates = coordinates;
+	}
+
+	public MoleculeSpec getSpec() {
+		return spec;
+	}
+
+	// The following method returns the coordinates in picometers, or null if there are none.
+	public CoordinateBuffer getCoordinates() {
+		return coordinates == null ? null : coordinates.copy();
+	}
+
+	boolean hasCoordinates() {
+		return coordinates != null;
+	}
+
+	// The following method builds the molecule the first time, and returns the same one afterwards.
+	public Molecule molecule() throws InvalidAtomicNumberException, InvalidChemicalBondException,
+			InvalidObjectWebSizeException {
+		if (molecule == null)
+			molecule = spec.build();
+		return molecule;
+	}
+}
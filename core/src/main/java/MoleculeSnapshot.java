@@ -0,0 +1,191 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * The following class is a version of a molecule that never changes. Bonding
+ * or removing an atom returns a new version, which shares everything but the
+ * changed atoms with the old one, so keeping every version of an edit costs
+ * little and any number of threads may read a version without locking. The
+ * same checks are made as when a molecule is changed, and an atom is removed
+ * the same way: the last atom takes its place.
+ */
+public final class MoleculeSnapshot {
+	private static final int[] noNeighbours = new int[0];
+	private static final MoleculeSnapshot empty = new MoleculeSnapshot(PersistentVector.<Integer>empty(),
+			PersistentVector.<int[]>empty(), 0);
+	private final PersistentVector<Integer> atomicNumbers;
+	// Every atom's list of the atoms it bonds to, in ascending order. The lists are never changed, only replaced.
+	private final PersistentVector<int[]> neighbours;
+	private final int bondCount;
+
+	private MoleculeSnapshot(PersistentVector<Integer> atomicNumbers, PersistentVector<int[]> neighbours,
+			int bondCount) {
+		this.atomicNumbers = atomicNumbers;
+		this.neighbours = neighbours;
+		this.bondCount = bondCount;
+	}
+
+	static MoleculeSnapshot of(List<Atom> allAtoms, BondGraph bonds) {
+		PersistentVector<Integer> atomicNumbers = PersistentVector.empty();
+		PersistentVector<int[]> neighbours = PersistentVector.empty();
+		int slots = 0;
+		for (int a = 0; a < allAtoms.size(); ++a) {
+			atomicNumbers = atomicNumbers.add(allAtoms.get(a).getAtomicNumber());
+			int[] row = new int[bonds.degree(a)];
+			for (int k = 0; k < row.length; ++k)
+				row[k] = bonds.neighbour(a, k);
+			neighbours = neighbours.add(row.length == 0 ? noNeighbours : row);
+			slots += row.length;
+		}
+		return new MoleculeSnapshot(atomicNumbers, neighbours, slots / 2);
+	}
+
+	// The following method returns the version with no atoms, from which a molecule can be built by bonding.
+	public static MoleculeSnapshot empty() {
+		return empty;
+	}
+
+	public int atomCount() {
+		return atomicNumbers.size();
+	}
+
+	public int bondCount() {
+		return bondCount;
+	}
+
+	public int atomicNumber(int atom) {
+		return atomicNumbers.get(atom);
+	}
+
+	public int degree(int atom) {
+		return neighbours.get(atom).length;
+	}
+
+	// The following method returns the k-th atom, in ascending order, bonded to an atom.
+	public int neighbour(int atom, int k) {
+		return neighbours.get(atom)[k];
+	}
+
+	public boolean bonds(int atom, int other) {
+		return Arrays.binarySearch(neighbours.get(atom), other) >= 0;
+	}
+
+	/*
+	 * The following method adds an atom to the end, bonded to one atom already
+	 * in the molecule. The first atom of an empty version is bonded to nothing,
+	 * so the connection point is ignored.
+	 */
+	public MoleculeSnapshot bond(int connectionPoint, int atomicNumber)
+			throws InvalidAtomicNumberException, InvalidChemicalBondException {
+		if (atomicNumber < 1 || atomicNumber > 120)
+			throw new InvalidAtomicNumberException(atomicNumber);
+		if (atomCount() == 0)
+			return new MoleculeSnapshot(atomicNumbers.add(atomicNumber), neighbours.add(noNeighbours), 0);
+		int degree = degree(connectionPoint);
+		if (degree + 1 > Atom.potenialChemicalBonds(atomicNumber(connectionPoint)))
+			throw new InvalidChemicalBondException(degree + 1);
+		if (Atom.potenialChemicalBonds(atomicNumber) < 1)
+			throw new InvalidChemicalBondException(1);
+		return bondChecked(connectionPoint, atomicNumber);
+	}
+
+	// The following method bonds an atom that the molecule has already checked.
+	MoleculeSnapshot bondChecked(int connectionPoint, int atomicNumber) {
+		int added = atomCount();
+		return new MoleculeSnapshot(atomicNumbers.add(atomicNumber),
+				neighbours.set(connectionPoint, insert(neighbours.get(connectionPoint), added))
+						.add(new int[] { connectionPoint }),
+				bondCount + 1);
+	}
+
+	/*
+	 * The following method removes an atom bonded to at most one other atom.
+	 * The last atom takes the place of the removed one.
+	 */
+	public MoleculeSnapshot remove(int removalPoint) {
+		if (atomCount() == 2)
+			throw new IllegalArgumentException();
+		int[] removedRow = neighbours.get(removalPoint);
+		if (removedRow.length > 1)
+			throw new IllegalArgumentException("That atom cannot be removed as it is bonded to two other atoms.");
+		PersistentVector<Integer> numbers = atomicNumbers;
+		PersistentVector<int[]> rows = neighbours;
+		if (removedRow.length == 1)
+			rows = rows.set(removedRow[0], delete(rows.get(removedRow[0]), removalPoint));
+		int last = atomCount() - 1;
+		if (removalPoint != last) {
+			int[] lastRow = rows.get(last);
+			for (int other : lastRow)
+				rows = rows.set(other, insert(delete(rows.get(other), last), removalPoint));
+			rows = rows.set(removalPoint, lastRow);
+			numbers = numbers.set(removalPoint, numbers.get(last));
+		}
+		return new MoleculeSnapshot(numbers.removeLast(), rows.removeLast(), bondCount - removedRow.length);
+	}
+
+	private static int[] insert(int[] row, int atom) {
+		int position = -Arrays.binarySearch(row, atom) - 1;
+		int[] copy = new int[row.length + 1];
+		System.arraycopy(row, 0, copy, 0, position);
+		copy[position] = atom;
+		System.arraycopy(row, position, copy, position + 1, row.length - position);
+		return copy;
+	}
+
+	private static int[] delete(int[] row, int atom) {
+		int position = Arrays.binarySearch(row, atom);
+		if (row.length == 1)
+			return noNeighbours;
+		int[] copy = new int[row.length - 1];
+		System.arraycopy(row, 0, copy, 0, position);
+		System.arraycopy(row, position + 1, copy, position, copy.length - position);
+		return copy;
+	}
+
+	/*
+	 * The following method makes new atoms for a molecule. Their atomic
+	 * numbers were checked when they were bonded, so they cannot be refused.
+	 */
+	ArrayList<Atom> newAtoms() {
+		ArrayList<Atom> allAtoms = new ArrayList<Atom>(atomCount());
+		try {
+			for (int a = 0; a < atomCount(); ++a)
+				allAtoms.add(new Atom(atomicNumber(a)));
+		} catch (InvalidAtomicNumberException ivane) {
+			throw new IllegalStateException(ivane);
+		}
+		return allAtoms;
+	}
+
+	BondGraph newBondGraph() {
+		BondGraph graph = new BondGraph(atomCount());
+		for (int a = 0; a < atomCount(); ++a)
+			graph.addAtom();
+		for (int a = 0; a < atomCount(); ++a)
+			for (int other : neighbours.get(a))
+				if (other > a)
+					graph.connect(a, other);
+		return graph;
+	}
+
+	// The following method builds a molecule that can be changed, leaving this version as it is.
+	public Molecule toMolecule() throws InvalidChemicalBondException, InvalidObjectWebSizeException {
+		return new Molecule(newAtoms(), newBondGraph());
+	}
+
+	public MoleculeSpec toSpec(String name) throws InvalidMoleculeSpecException {
+		int[] numbers = new int[atomCount()];
+		int[] pairs = new int[bondCount * 2];
+		int b = 0;
+		for (int a = 0; a < numbers.length; ++a) {
+			numbers[a] = atomicNumber(a);
+			for (int other : neighbours.get(a))
+				if (other > a) {
+					pairs[b++] = a;
+					pairs[b++] = other;
+				}
+		}
+		return new MoleculeSpec(name, numbers, pairs);
+	}
+}
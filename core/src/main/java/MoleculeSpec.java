@@ -0,0 +1,178 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/*
+ * The following class describes a molecule without building it: the atomic
+ * number of every atom and the pairs of atoms that bond to each other. It is
+ * cheap to read in bulk, and the molecule is only built when it is needed.
+ *
+ * A description written on one line has three parts separated by semicolons:
+ * a name, the atoms as atomic numbers or element symbols, and the bonds as
+ * pairs of atom indices joined by a dash, for example
+ *
+ *     water; O H H; 0-1 0-2
+ */
+public final class MoleculeSpec {
+	private final String name;
+	private final int[] atomicNumbers;
+	/*
+	 * The bonds are stored as a flat array of pairs, so bond b joins atom
+	 * bonds[2 * b] to atom bonds[2 * b + 1].
+	 */
+	private final int[] bonds;
+
+	public MoleculeSpec(String name, int[] atomicNumbers, int[] bonds) throws InvalidMoleculeSpecException {
+		if (bonds.length % 2 != 0)
+			throw new InvalidMoleculeSpecException("Every bond must name two atoms.");
+		for (int a = 0; a < atomicNumbers.length; ++a)
+			if (atomicNumbers[a] < 1 || atomicNumbers[a] > 120)
+				throw new InvalidMoleculeSpecException("Atom " + a + " has no element: " + atomicNumbers[a]);
+		for (int b = 0; b < bonds.length; ++b)
+			if (bonds[b] < 0 || bonds[b] >= atomicNumbers.length)
+				throw new InvalidMoleculeSpecException("Bond " + b / 2 + " names an atom that does not exist.");
+		this.name = name;
+		this.atomicNumbers = atomicNumbers.clone();
+		this.bonds = bonds.clone();
+	}
+
+	public static MoleculeSpec parse(String line) throws InvalidMoleculeSpecException {
+		String[] parts = line.split(";", -1);
+		if (parts.length != 3)
+			throw new InvalidMoleculeSpecException("A molecule needs a name, its atoms and its bonds: " + line);
+		String[] atoms = tokens(parts[1]);
+		int[] atomicNumbers = new int[atoms.length];
+		for (int a = 0; a < atoms.length; ++a)
+			atomicNumbers[a] = atomicNumber(atoms[a]);
+		String[] pairs = tokens(parts[2]);
+		int[] bonds = new int[pairs.length * 2];
+		for (int b = 0; b < pairs.length; ++b) {
+			int dash = pairs[b].indexOf('-');
+			if (dash < 0)
+				throw new InvalidMoleculeSpecException("A bond must be written as two atoms joined by a dash: " + pairs[b]);
+			try {
+				bonds[2 * b] = Integer.parseInt(pairs[b].substring(0, dash));
+				bonds[2 * b + 1] = Integer.parseInt(pairs[b].substring(dash + 1));
+			} catch (NumberFormatException nfe) {
+				throw new InvalidMoleculeSpecException("A bond must be written as two atoms joined by a dash: " + pairs[b]);
+			}
+		}
+		return new MoleculeSpec(parts[0].trim(), atomicNumbers, bonds);
+	}
+
+	private static String[] tokens(String part) {
+		part = part.trim();
+		return part.isEmpty() ? new String[0] : part.split("[\\s,]+");
+	}
+
+	// The following method reads an atom written either as its atomic number or its symbol.
+	private static int atomicNumber(String atom) throws InvalidMoleculeSpecException {
+		if (Character.isDigit(atom.charAt(0)))
+			try {
+				return Integer.parseInt(atom);
+			} catch (NumberFormatException nfe) {
+				throw new InvalidMoleculeSpecException("Unknown atom: " + atom);
+			}
+		ChemicalElement element = ChemicalElement.lookUpChemicalElementBySymbol(atom);
+		if (element == null)
+			throw new InvalidMoleculeSpecException("Unknown element symbol: " + atom);
+		return ChemicalElement.findAtomicNumberByElement(element);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int atomCount() {
+		return atomicNumbers.length;
+	}
+
+	public int bondCount() {
+		return bonds.length / 2;
+	}
+
+	public int atomicNumber(int atom) {
+		return atomicNumbers[atom];
+	}
+
+	// The following two methods return the atoms at either end of a bond.
+	public int bondStart(int bond) {
+		return bonds[2 * bond];
+	}
+
+	public int bondEnd(int bond) {
+		return bonds[2 * bond + 1];
+	}
+
+	/*
+	 * The following method builds the molecule. Every call builds a new one,
+	 * so the caller may change it freely.
+	 */
+	public Molecule build() throws InvalidAtomicNumberException, InvalidChemicalBondException,
+			InvalidObjectWebSizeException {
+		ArrayList<Atom> allAtoms = new ArrayList<Atom>(atomicNumbers.length);
+		BondGraph graph = new BondGraph(atomicNumbers.length);
+		for (int a = 0; a < atomicNumbers.length; ++a) {
+			allAtoms.add(new Atom(atomicNumbers[a]));
+			graph.addAtom();
+		}
+		for (int b = 0; b < bonds.length; b += 2) {
+			if (bonds[b] == bonds[b + 1] || graph.bonds(bonds[b], bonds[b + 1]))
+				throw new InvalidChemicalBondException(
+						"Atoms " + bonds[b] + " and " + bonds[b + 1] + " cannot be bonded twice or to themselves.");
+			graph.connect(bonds[b], bonds[b + 1]);
+		}
+		return new Molecule(allAtoms, graph);
+	}
+
+	int[] atomicNumbers() {
+		return atomicNumbers.clone();
+	}
+
+	// The following method builds the bonds as a graph without building the atoms.
+	BondGraph bondGraph() {
+		BondGraph graph = new BondGraph(atomicNumbers.length);
+		for (int a = 0; a < atomicNumbers.length; ++a)
+			graph.addAtom();
+		for (int b = 0; b < bonds.length; b += 2)
+			graph.connect(bonds[b], bonds[b + 1]);
+		return graph;
+	}
+
+	// The following method writes the description in the form parse reads.
+	public String toLine() {
+		StringBuilder line = new StringBuilder(name).append(';');
+		for (int a = 0; a < atomicNumbers.length; ++a)
+			line.append(' ').append(ChemicalElement.symbolOf(atomicNumbers[a]));
+		line.append(';');
+		for (int b = 0; b < bonds.length; b += 2)
+			line.append(' ').append(bonds[b]).append('-').append(bonds[b + 1]);
+		return line.toString();
+	}
+
+	@Override
+	public String toString() {
+		return toLine();
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (!(other instanceof MoleculeSpec))
+			return false;
+		MoleculeSpec spec = (MoleculeSpec) other;
+		return name.equals(spec.name) && Arrays.equals(atomicNumbers, spec.atomicNumbers)
+				&& Arrays.equals(bonds, spec.bonds);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * name.hashCode() + Arrays.hashCode(atomicNumbers)) + Arrays.hashCode(bonds);
+	}
+}
+
+class InvalidMoleculeSpecException extends Exception {
+	private static final long serialVersionUID = 1L;
+
+	public InvalidMoleculeSpecException(String reason) {
+		super(reason);
+	}
+}
@@ -0,0 +1,85 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * The following class holds a molecule that has been checked once and is then
+ * only copied. Its atoms and bonds never change, so one template may be shared
+ * by any number of threads. Every molecule made from it gets new atoms, but
+ * shares the template's bonds until the molecule itself is changed, so making
+ * a molecule costs little more than making its atoms.
+ */
+public final class MoleculeTemplate {
+	private final String name;
+	// The following atoms are only ever copied, never handed out.
+	private final Atom[] prototypes;
+	private final CompressedBonds bonds;
+
+	private MoleculeTemplate(String name, Atom[] prototypes, CompressedBonds bonds) {
+		this.name = name;
+		this.prototypes = prototypes;
+		this.bonds = bonds;
+	}
+
+	/*
+	 * The following method checks a description by building its molecule
+	 * once, with every check a molecule makes, and keeps the result.
+	 */
+	public static MoleculeTemplate of(MoleculeSpec spec) throws InvalidAtomicNumberException,
+			InvalidChemicalBondException, InvalidObjectWebSizeException {
+		Molecule molecule = spec.build();
+		List<Atom> allAtoms = molecule.getAllAtoms();
+		return new MoleculeTemplate(spec.getName(), allAtoms.toArray(new Atom[allAtoms.size()]),
+				molecule.bondGraph().compress());
+	}
+
+	public Molecule newMolecule() throws InvalidObjectWebSizeException {
+		return new Molecule(this);
+	}
+
+	ArrayList<Atom> newAtoms() {
+		ArrayList<Atom> allAtoms = new ArrayList<Atom>(prototypes.length);
+		for (Atom prototype : prototypes)
+			allAtoms.add(new Atom(prototype));
+		return allAtoms;
+	}
+
+	CompressedBonds bonds() {
+		return bonds;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int atomCount() {
+		return prototypes.length;
+	}
+
+	public int atomicNumber(int atom) {
+		return prototypes[atom].getAtomicNumber();
+	}
+
+	public int bondCount() {
+		return bonds.slotCount() / 2;
+	}
+
+	public MoleculeSpec toSpec() throws InvalidMoleculeSpecException {
+		int[] atomicNumbers = new int[prototypes.length];
+		for (int a = 0; a < atomicNumbers.length; ++a)
+			atomicNumbers[a] = prototypes[a].getAtomicNumber();
+		int[] pairs = new int[bonds.slotCount()];
+		int b = 0;
+		for (int i = 0; i < bonds.size(); ++i)
+			for (int slot = bonds.offsets[i]; slot < bonds.offsets[i + 1]; ++slot)
+				if (bonds.targets[slot] > i) {
+					pairs[b++] = i;
+					pairs[b++] = bonds.targets[slot];
+				}
+		return new MoleculeSpec(name, atomicNumbers, pairs);
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
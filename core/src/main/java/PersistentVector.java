@@ -0,0 +1,117 @@
+import java.util.Arrays;
+
+/*
+ * The following class is a list that never changes. Setting, adding or
+ * removing an element returns a new list, which shares all but one path of
+ * its tree with the old one, so every version can be kept for the cost of a
+ * few small arrays per change. The elements are held in a tree in which every
+ * node has up to 32 children, so a list of a million elements is four levels
+ * deep. Only the last element can be removed.
+ */
+final class PersistentVector<T> {
+	private static final int bits = 5, width = 1 << bits, mask = width - 1;
+	private static final PersistentVector<Object> empty = new PersistentVector<Object>(0, 0, new Object[0]);
+	private final int size;
+	// The following number is how far an index is shifted to find its child of the root.
+	private final int shift;
+	private final Object[] root;
+
+	private PersistentVector(int size, int shift, Object[] root) {
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> PersistentVector<T> empty() {
+		return (PersistentVector<T>) empty;
+	}
+
+	int size() {
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	T get(int index) {
+		checkIndex(index);
+		Object[] node = root;
+		for (int level = shift; level > 0; level -= bits)
+			node = (Object[]) node[(index >>> level) & mask];
+		return (T) node[index & mask];
+	}
+
+	PersistentVector<T> set(int index, T value) {
+		checkIndex(index);
+		return new PersistentVector<T>(size, shift, set(root, shift, index, value));
+	}
+
+	private static Object[] set(Object[] node, int level, int index, Object value) {
+		Object[] copy = node.clone();
+		if (level == 0)
+			copy[index & mask] = value;
+		else {
+			int child = (index >>> level) & mask;
+			copy[child] = set((Object[]) node[child], level - bits, index, value);
+		}
+		return copy;
+	}
+
+	// The following method adds an element to the end.
+	PersistentVector<T> add(T value) {
+		if (size == 1 << (shift + bits))
+			return new PersistentVector<T>(size + 1, shift + bits, new Object[] { root, path(shift, value) });
+		return new PersistentVector<T>(size + 1, shift, add(root, shift, size, value));
+	}
+
+	private static Object[] add(Object[] node, int level, int index, Object value) {
+		if (level == 0) {
+			Object[] copy = Arrays.copyOf(node, node.length + 1);
+			copy[node.length] = value;
+			return copy;
+		}
+		int child = (index >>> level) & mask;
+		if (child < node.length) {
+			Object[] copy = node.clone();
+			copy[child] = add((Object[]) node[child], level - bits, index, value);
+			return copy;
+		}
+		Object[] copy = Arrays.copyOf(node, child + 1);
+		copy[child] = path(level - bits, value);
+		return copy;
+	}
+
+	// The following method builds the nodes leading down to a single element.
+	private static Object[] path(int level, Object value) {
+		return level == 0 ? new Object[] { value } : new Object[] { path(level - bits, value) };
+	}
+
+	// The following method removes the last element.
+	PersistentVector<T> removeLast() {
+		if (size == 0)
+			throw new IndexOutOfBoundsException("The list is empty.");
+		if (size == 1)
+			return empty();
+		Object[] node = removeLast(root, shift, size - 1);
+		if (shift > 0 && node.length == 1)
+			return new PersistentVector<T>(size - 1, shift - bits, (Object[]) node[0]);
+		return new PersistentVector<T>(size - 1, shift, node);
+	}
+
+	// The following method returns the node without the element, or null if nothing is left in it.
+	private static Object[] removeLast(Object[] node, int level, int index) {
+		if (level == 0)
+			return node.length == 1 ? null : Arrays.copyOf(node, node.length - 1);
+		int child = (index >>> level) & mask;
+		Object[] rest = removeLast((Object[]) node[child], level - bits, index);
+		if (rest == null)
+			return child == 0 ? null : Arrays.copyOf(node, child);
+		Object[] copy = node.clone();
+		copy[child] = rest;
+		return copy;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+	}
+}
@@ -0,0 +1,56 @@
+import java.util.ArrayList;
+
+/*
+ * This class is used for creating objects of commonly used molecules such as
+ * water and carbon dioxide. Each kind keeps one template, checked once when
+ * the class is loaded, and every new object copies it. MoleculeCatalogue
+ * holds many more common molecules by name.
+ */
+public abstract class Popular_Molecule extends Molecule {
+	protected Popular_Molecule(ArrayList<Atom> allAtoms, boolean[][] bondsTo)
+			throws InvalidChemicalBondException, InvalidObjectWebSizeException {
+		super(allAtoms, bondsTo);
+	}
+
+	Popular_Molecule(MoleculeTemplate template) throws InvalidObjectWebSizeException {
+		super(template);
+	}
+
+	protected Popular_Molecule() {
+
+	}
+
+	/*
+	 * The following method makes the template of a molecule written into the
+	 * program. Such a molecule can only fail its checks through a mistake in
+	 * the program, so that is not a checked exception.
+	 */
+	static MoleculeTemplate template(String name, int[] atomicNumbers, int[] bonds) {
+		try {
+			return MoleculeTemplate.of(new MoleculeSpec(name, atomicNumbers, bonds));
+		} catch (InvalidMoleculeSpecException | InvalidAtomicNumberException | InvalidChemicalBondException
+				| InvalidObjectWebSizeException e) {
+			throw new IllegalStateException("The template of " + name + " is wrong: " + e.getMessage());
+		}
+	}
+}
+
+final class Water extends Popular_Molecule {
+	// The oxygen atom in the middle bonds to both hydrogen atoms.
+	private static final MoleculeTemplate template = template("water", new int[] { 1, 8, 1 },
+			new int[] { 0, 1, 1, 2 });
+
+	public Water() throws InvalidChemicalBondException, InvalidObjectWebSizeException {
+		super(template);
+	}
+}
+
+final class CarbonDioxide extends Popular_Molecule {
+	// The carbon atom in the middle bonds to both oxygen atoms.
+	private static final MoleculeTemplate template = template("carbon dioxide", new int[] { 8, 6, 8 },
+			new int[] { 0, 1, 1, 2 });
+
+	public CarbonDioxide() throws InvalidChemicalBondException, InvalidObjectWebSizeException {
+		super(template);
+	}
+}
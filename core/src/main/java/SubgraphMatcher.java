@@ -0,0 +1,131 @@
+import java.util.Arrays;
+
+/*
+ * The following class decides whether a fragment occurs in a molecule: whether
+ * every atom of the fragment can be given a different atom of the molecule of
+ * the same element so that every bond of the fragment is also a bond of the
+ * molecule. The molecule may have more bonds between those atoms than the
+ * fragment does. The fragment atoms are matched one at a time, each one next
+ * to an atom matched before it where possible, so that only the neighbours of
+ * an atom already matched need to be tried.
+ */
+final class SubgraphMatcher {
+	private final int[] fragmentAtoms;
+	private final CompressedBonds fragmentBonds;
+	// The following arrays give the order the fragment atoms are matched in, and the earlier atom each is next to.
+	private final int[] order;
+	private final int[] anchor;
+
+	SubgraphMatcher(int[] fragmentAtoms, CompressedBonds fragmentBonds) {
+		this.fragmentAtoms = fragmentAtoms;
+		this.fragmentBonds = fragmentBonds;
+		int size = fragmentAtoms.length;
+		order = new int[size];
+		anchor = new int[size];
+		/*
+		 * Each part of the fragment starts from its atom with the most bonds,
+		 * which has the fewest atoms to match, and grows outwards breadth first.
+		 */
+		boolean[] placed = new boolean[size];
+		int count = 0;
+		while (count < size) {
+			int start = -1;
+			for (int i = 0; i < size; ++i)
+				if (!placed[i] && (start < 0 || fragmentBonds.degree(i) > fragmentBonds.degree(start)))
+					start = i;
+			int head = count;
+			order[count] = start;
+			anchor[count++] = -1;
+			placed[start] = true;
+			for (; head < count; ++head) {
+				int atom = order[head];
+				for (int slot = fragmentBonds.offsets[atom]; slot < fragmentBonds.offsets[atom + 1]; ++slot) {
+					int other = fragmentBonds.targets[slot];
+					if (placed[other])
+						continue;
+					placed[other] = true;
+					order[count] = other;
+					anchor[count++] = atom;
+				}
+			}
+		}
+	}
+
+	/*
+	 * The following method returns, for every fragment atom, the molecule atom
+	 * it matches, or null if the fragment does not occur in the molecule.
+	 */
+	int[] match(int[] atomicNumbers, CompressedBonds bonds) {
+		int size = fragmentAtoms.length;
+		if (size > atomicNumbers.length || fragmentBonds.slotCount() > bonds.slotCount())
+			return null;
+		int[] mapping = new int[size];
+		Arrays.fill(mapping, -1);
+		boolean[] used = new boolean[atomicNumbers.length];
+		// The following array holds how far through its candidates each step of the match has got.
+		int[] cursor = new int[size + 1];
+		int depth = 0;
+		cursor[0] = 0;
+		while (depth >= 0) {
+			if (depth == size)
+				return mapping;
+			int atom = order[depth];
+			if (mapping[atom] >= 0) {
+				used[mapping[atom]] = false;
+				mapping[atom] = -1;
+			}
+			int candidate = nextCandidate(atom, depth, cursor, atomicNumbers, bonds, used, mapping);
+			if (candidate < 0) {
+				--depth;
+				continue;
+			}
+			mapping[atom] = candidate;
+			used[candidate] = true;
+			cursor[++depth] = 0;
+		}
+		return null;
+	}
+
+	boolean occursIn(int[] atomicNumbers, CompressedBonds bonds) {
+		return match(atomicNumbers, bonds) != null;
+	}
+
+	/*
+	 * The following method returns the next molecule atom the fragment atom at
+	 * the given step could match, or -1 if none is left. The candidates are the
+	 * neighbours of the match of its anchor, or every atom if it has none.
+	 */
+	private int nextCandidate(int atom, int depth, int[] cursor, int[] atomicNumbers, CompressedBonds bonds,
+			boolean[] used, int[] mapping) {
+		int from, to;
+		if (anchor[depth] < 0) {
+			from = 0;
+			to = atomicNumbers.length;
+		} else {
+			int image = mapping[anchor[depth]];
+			from = bonds.offsets[image];
+			to = bonds.offsets[image + 1];
+		}
+		while (from + cursor[depth] < to) {
+			int index = from + cursor[depth]++;
+			int candidate = anchor[depth] < 0 ? index : bonds.targets[index];
+			if (used[candidate] || atomicNumbers[candidate] != fragmentAtoms[atom]
+					|| bonds.degree(candidate) < fragmentBonds.degree(atom))
+				continue;
+			if (keepsBonds(atom, candidate, bonds, mapping))
+				return candidate;
+		}
+		return -1;
+	}
+
+	// The following method checks that every bond to a matched fragment atom is also in the molecule.
+	private boolean keepsBonds(int atom, int candidate, CompressedBonds bonds, int[] mapping) {
+		for (int slot = fragmentBonds.offsets[atom]; slot < fragmentBonds.offsets[atom + 1]; ++slot) {
+			int image = mapping[fragmentBonds.targets[slot]];
+			if (image >= 0 && Arrays.binarySearch(bonds.targets, bonds.offsets[candidate], bonds.offsets[candidate + 1],
+					image) < 0)
+				return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,127 @@
+import java.util.Arrays;
+
+/*
+ * The following class answers which of the molecules added to it contain a
+ * fragment. Every bit of the path fingerprint keeps a bit set over the
+ * molecules whose fingerprints have it, so the molecules that could contain a
+ * fragment are found by joining the sets of the fragment's bits with a
+ * bitwise and, 64 molecules at a time. Only those candidates are then checked
+ * atom by atom with a SubgraphMatcher.
+ */
+public final class SubstructureIndex {
+	private final int bits;
+	private final int pathLength;
+	// The following array holds, for every fingerprint bit, the set of molecules that have it.
+	private long[][] postings;
+	private int[][] atomicNumbers;
+	private CompressedBonds[] bonds;
+	private int size;
+
+	public SubstructureIndex() {
+		this(MoleculeFingerprint.defaultBits, MoleculeFingerprint.defaultPathLength);
+	}
+
+	SubstructureIndex(int bits, int pathLength) {
+		this.bits = bits;
+		this.pathLength = pathLength;
+		postings = new long[bits][1];
+		atomicNumbers = new int[16][];
+		bonds = new CompressedBonds[16];
+	}
+
+	// The following method adds a molecule and returns its number in the index.
+	public int add(MoleculeSpec spec) {
+		return add(spec.atomicNumbers(), spec.bondGraph().compress());
+	}
+
+	public int add(Molecule molecule) {
+		int[] numbers = new int[molecule.getAllAtoms().size()];
+		for (int a = 0; a < numbers.length; ++a)
+			numbers[a] = molecule.getAllAtoms().get(a).getAtomicNumber();
+		return add(numbers, molecule.bondGraph().compress());
+	}
+
+	private int add(int[] numbers, CompressedBonds compressed) {
+		if (size == atomicNumbers.length) {
+			atomicNumbers = Arrays.copyOf(atomicNumbers, size * 2);
+			bonds = Arrays.copyOf(bonds, size * 2);
+		}
+		int words = (size >>> 6) + 1;
+		if (postings[0].length < words)
+			for (int b = 0; b < bits; ++b)
+				postings[b] = Arrays.copyOf(postings[b], Math.max(words, postings[b].length * 2));
+		long[] fingerprint = MoleculeFingerprint.of(numbers, compressed, pathLength, bits);
+		for (int w = 0; w < fingerprint.length; ++w)
+			for (long word = fingerprint[w]; word != 0; word &= word - 1)
+				postings[w * 64 + Long.numberOfTrailingZeros(word)][size >>> 6] |= 1L << size;
+		atomicNumbers[size] = numbers;
+		bonds[size] = compressed;
+		return size++;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/*
+	 * The following method returns the set of molecules whose fingerprints hold
+	 * every bit of the fragment's fingerprint, as one bit per molecule.
+	 */
+	long[] candidates(int[] numbers, CompressedBonds compressed) {
+		int words = (size + 63) >>> 6;
+		long[] candidates = new long[words];
+		Arrays.fill(candidates, -1L);
+		if ((size & 63) != 0)
+			candidates[words - 1] = (1L << size) - 1;
+		long[] fingerprint = MoleculeFingerprint.of(numbers, compressed, pathLength, bits);
+		for (int w = 0; w < fingerprint.length; ++w)
+			for (long word = fingerprint[w]; word != 0; word &= word - 1) {
+				long[] posting = postings[w * 64 + Long.numberOfTrailingZeros(word)];
+				boolean any = false;
+				for (int m = 0; m < words; ++m)
+					any |= (candidates[m] &= posting[m]) != 0;
+				if (!any)
+					return candidates;
+			}
+		return candidates;
+	}
+
+	// The following method returns how many molecules pass the fingerprint screen for a fragment.
+	public int candidateCount(MoleculeSpec fragment) {
+		Query query = new Query(fragment);
+		int count = 0;
+		for (long word : candidates(query.atomicNumbers, query.bonds))
+			count += Long.bitCount(word);
+		return count;
+	}
+
+	// The following method returns the numbers of every molecule that contains the fragment, in order.
+	public int[] search(MoleculeSpec fragment) {
+		Query query = new Query(fragment);
+		long[] candidates = candidates(query.atomicNumbers, query.bonds);
+		SubgraphMatcher matcher = new SubgraphMatcher(query.atomicNumbers, query.bonds);
+		int[] found = new int[16];
+		int count = 0;
+		for (int w = 0; w < candidates.length; ++w)
+			for (long word = candidates[w]; word != 0; word &= word - 1) {
+				int m = w * 64 + Long.numberOfTrailingZeros(word);
+				if (!matcher.occursIn(atomicNumbers[m], bonds[m]))
+					continue;
+				if (count == found.length)
+					found = Arrays.copyOf(found, count * 2);
+				found[count++] = m;
+			}
+		return Arrays.copyOf(found, count);
+	}
+
+	// The following class holds a fragment in the form the index compares.
+	private static final class Query {
+		final int[] atomicNumbers;
+		final CompressedBonds bonds;
+
+		Query(MoleculeSpec fragment) {
+			atomicNumbers = fragment.atomicNumbers();
+			bonds = fragment.bondGraph().compress();
+		}
+	}
+}
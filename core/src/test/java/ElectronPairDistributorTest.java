@@ -0,0 +1,130 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/*
+ * The following tests check that the electron pairs are distributed exactly
+ * as the sweep over every pair of atoms did before the worklist replaced it.
+ * That sweep is kept below as it was, working on the two dimensional arrays.
+ */
+class ElectronPairDistributorTest {
+	private static final int[] elements = { 1, 1, 1, 6, 6, 7, 8, 9, 15, 16, 17 };
+
+	@Test
+	void sameAsSweepOnGeneratedMolecules() throws Exception {
+		Random random = new Random(440);
+		for (int m = 0; m < 440; ++m) {
+			Molecule molecule = generate(random, 2 + m % 39);
+			Molecule.configuration configuration = molecule.electronOrbitConfiguration();
+			short[][] expectedBonds = new short[molecule.getAllAtoms().size()][];
+			short[] expectedOrbit = sweep(molecule, expectedBonds);
+			assertArrayEquals(expectedOrbit, configuration.electronsInOrbit, "orbit of molecule " + m);
+			short[][] bonds = configuration.electronsInBondsMatrix();
+			for (int i = 0; i < bonds.length; ++i)
+				assertArrayEquals(expectedBonds[i], bonds[i], "bonds of atom " + i + " of molecule " + m);
+		}
+	}
+
+	/*
+	 * The following method makes a molecule of up to the given size by bonding
+	 * every new atom to an earlier one that can take another bond, and then
+	 * closing a few rings between atoms that can both take one.
+	 */
+	private static Molecule generate(Random random, int size) throws Exception {
+		ArrayList<Atom> atoms = new ArrayList<Atom>();
+		BondGraph graph = new BondGraph();
+		List<Integer> open = new ArrayList<Integer>();
+		// The first atom is a carbon so that it can take bonds, and the molecule stops growing once no atom can.
+		for (int a = 0; a < size && (a == 0 || !open.isEmpty()); ++a) {
+			int atomicNumber = a == 0 ? 6 : elements[random.nextInt(elements.length)];
+			atoms.add(new Atom(atomicNumber));
+			graph.addAtom();
+			if (a > 0) {
+				int other = open.get(random.nextInt(open.size()));
+				graph.connect(other, a);
+				if (graph.degree(other) == atoms.get(other).potenialChemicalBonds())
+					open.remove(Integer.valueOf(other));
+			}
+			if (graph.degree(a) < atoms.get(a).potenialChemicalBonds())
+				open.add(a);
+		}
+		for (int r = random.nextInt(3); r > 0 && open.size() > 1; --r) {
+			int a = open.get(random.nextInt(open.size())), b = open.get(random.nextInt(open.size()));
+			if (a == b || graph.bonds(a, b))
+				continue;
+			graph.connect(a, b);
+			for (int atom : new int[] { a, b })
+				if (graph.degree(atom) == atoms.get(atom).potenialChemicalBonds())
+					open.remove(Integer.valueOf(atom));
+		}
+		return new Molecule(atoms, graph);
+	}
+
+	// The following method is the sweep the worklist replaced.
+	private static short[] sweep(Molecule molecule, short[][] electronsInBonds) {
+		List<Atom> allAtoms = molecule.getAllAtoms();
+		boolean[][] bondsTo = molecule.doesBondTo();
+		for (int i = 0; i < electronsInBonds.length; ++i)
+			electronsInBonds[i] = new short[allAtoms.size() - 1];
+		short[] electronsInOrbit = new short[allAtoms.size()];
+		int i, j;
+		int remainingElectronPairs = molecule.numberOfElectronPairs();
+		boolean bondsFilled = false;
+		short[] previousOrbitCounts = new short[allAtoms.size()];
+		boolean fillingStarted = false;
+		while (remainingElectronPairs > 0) {
+			if (bondsFilled)
+				break;
+			if (fillingStarted)
+				bondsFilled = true;
+			for (i = 0; i < electronsInBonds.length; ++i) {
+				if (previousOrbitCounts[i] != electronsInOrbit[i])
+					bondsFilled = false;
+				previousOrbitCounts[i] = electronsInOrbit[i];
+			}
+			for (i = 0; i < electronsInBonds.length; ++i) {
+				int bondsActive = 0;
+				for (j = 0; j < electronsInBonds[i].length; ++j)
+					bondsActive += (electronsInBonds[i][j] / 2) + (electronsInBonds[i][j] % 2);
+				if (bondsActive >= allAtoms.get(i).potenialChemicalBonds())
+					continue;
+				for (j = 0; j < electronsInBonds[i].length; ++j) {
+					fillingStarted = true;
+					if (!bondsTo[i][j])
+						continue;
+					if (electronsInBonds[i][j] == 6)
+						continue;
+					int x = j;
+					if (x >= i)
+						x++;
+					int index = 0;
+					int y = 0;
+					while (index < i) {
+						if (index++ == x)
+							continue;
+						y++;
+					}
+					if (electronsInOrbit[i] == allAtoms.get(i).fullShell()
+							|| electronsInOrbit[x] == allAtoms.get(x).fullShell())
+						continue;
+					electronsInBonds[i][j] += 2;
+					electronsInBonds[x][y] += 2;
+					electronsInOrbit[i] += 2;
+					electronsInOrbit[x] += 2;
+					remainingElectronPairs--;
+				}
+			}
+		}
+		for (i = 0; i < allAtoms.size(); ++i) {
+			while (electronsInOrbit[i] < allAtoms.get(i).fullShell())
+				electronsInOrbit[i] += 2;
+			if (electronsInOrbit[i] > allAtoms.get(i).fullShell())
+				electronsInOrbit[i] -= 2;
+		}
+		return electronsInOrbit;
+	}
+}
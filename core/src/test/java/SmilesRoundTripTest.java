@@ -0,0 +1,109 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/*
+ * The following tests write molecules as SMILES and read them back, checking
+ * that the same atoms and bonds come out.
+ */
+class SmilesRoundTripTest {
+	@TempDir
+	Path directory;
+
+	private static String write(MoleculeSpec spec) throws IOException {
+		StringWriter text = new StringWriter();
+		MoleculeFileWriter out = new MoleculeFileWriter(text, MoleculeFormat.SMILES);
+		out.write(spec);
+		out.flush();
+		return text.toString().trim().split("\\s+")[0];
+	}
+
+	private static void assertRoundTrip(MoleculeSpec spec) throws Exception {
+		MoleculeSpec read = new SmilesParser(write(spec)).parse(spec.getName());
+		assertEquals(spec.atomCount(), read.atomCount());
+		assertEquals(spec.bondCount(), read.bondCount());
+		assertArrayEquals(elements(spec), elements(read));
+	}
+
+	private static int[] elements(MoleculeSpec spec) {
+		int[] atomicNumbers = new int[spec.atomCount()];
+		for (int a = 0; a < atomicNumbers.length; ++a)
+			atomicNumbers[a] = spec.atomicNumber(a);
+		Arrays.sort(atomicNumbers);
+		return atomicNumbers;
+	}
+
+	private static MoleculeSpec parse(String smiles) throws InvalidMoleculeSpecException {
+		return new SmilesParser(smiles).parse(smiles);
+	}
+
+	@Test
+	void ringsAndBranches() throws Exception {
+		assertRoundTrip(parse("C1CCCCC1"));
+		assertRoundTrip(parse("c1ccc2ccccc2c1"));
+		assertRoundTrip(parse("CC(C)(O)C(=O)N.O"));
+	}
+
+	// Each ring closes before the next opens, so all of them share one number.
+	@Test
+	void ringNumbersAreUsedAgain() throws Exception {
+		StringBuilder smiles = new StringBuilder();
+		for (int r = 0; r < 120; ++r)
+			smiles.append("c1ccc(cc1)");
+		smiles.append('C');
+		MoleculeSpec spec = parse(smiles.toString());
+		assertFalse(write(spec).contains("%"));
+		assertRoundTrip(spec);
+	}
+
+	@Test
+	void longChain() throws Exception {
+		char[] carbons = new char[20000];
+		Arrays.fill(carbons, 'C');
+		assertRoundTrip(parse(new String(carbons)));
+	}
+
+	// The first atom of a chain bonded to every other atom opens a ring for each of them at once.
+	@Test
+	void tooManyOpenRings() throws Exception {
+		int n = 120;
+		int[] atomicNumbers = new int[n];
+		Arrays.fill(atomicNumbers, 6);
+		int[] bonds = new int[2 * (2 * n - 3)];
+		int b = 0;
+		for (int a = 1; a < n; ++a) {
+			bonds[b++] = a - 1;
+			bonds[b++] = a;
+		}
+		for (int a = 2; a < n; ++a) {
+			bonds[b++] = 0;
+			bonds[b++] = a;
+		}
+		MoleculeSpec spec = new MoleculeSpec("hub", atomicNumbers, bonds);
+		assertThrows(IOException.class, () -> write(spec));
+	}
+
+	@Test
+	void onlyAsciiDigitsAreRingNumbers() {
+		assertThrows(InvalidMoleculeSpecException.class, () -> parse("C\u0663CC\u0663"));
+	}
+
+	@Test
+	void negativeAtomCountIsInvalid() throws Exception {
+		Path file = directory.resolve("negative.xyz");
+		Files.writeString(file, "-3\nbroken\n");
+		try (MoleculeFileReader reader = MoleculeFileReader.open(file)) {
+			assertThrows(InvalidMoleculeSpecException.class, reader::next);
+		}
+	}
+}
@@ -0,0 +1,664 @@
+import java.util.ArrayList;
+
+import javax.swing.JOptionPane;
+
+import javafx.application.Application;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+
+/*
+ * This program starts in the main method of a subclass of Application. It
+ * creates a GUI in which the user can create any molecule possible to exist in
+ * nature. It uses several interacting classes to follow the rules of chemistry.
+ */
+public final class Alchemy extends Application {
+	/*
+	 * The stages, scenes and buttons are all made once, when the program
+	 * starts, and are shown, hidden and changed in place from then on.
+	 */
+	private Stage primaryStage, secondaryStage, tertiaryStage;
+	private Pane primaryPane;
+	private Scene primaryScene, secondaryScene, tertiaryScene;
+	private Button modeSelector;
+	private Rectangle[] elementSymbols;
+	// Each cell of the periodic table is a square of this many pixels.
+	private static final double cellSize = 50.0;
+	// The atomic number of the element in each cell of the table, by row and column, or 0 for an empty cell.
+	private final int[][] cellElements = new int[10][18];
+	private static Atom previousAtom;
+	private static Atom sequentialAtom;
+	private Molecule inputMolecule, outputMolecule;
+	// Every version of each molecule, so that Ctrl+Z can undo a change and Ctrl+Y redo it.
+	private MoleculeHistory inputHistory, outputHistory;
+	/*
+	 * The arrow keys only change the orientation of each view. The renderers
+	 * keep the coordinates as they were calculated and turn them when drawing.
+	 * Each view starts with the renderer named by the alchemy.renderer
+	 * property, "circles" or "canvas", and can be switched with a button.
+	 */
+	private final Orientation inputOrientation = new Orientation(), outputOrientation = new Orientation();
+	private MoleculeRenderer inputRenderer, outputRenderer;
+	/*
+	 * The coordinates are calculated in the background after every change, and
+	 * the atoms are drawn again when the latest coordinates arrive.
+	 */
+	private final GeometryService inputGeometry = new GeometryService("input-geometry", GeometryMode.FAST,
+			(version, coordinates) -> inputRenderer.setCoordinates(version, coordinates));
+	private final GeometryService outputGeometry = new GeometryService("output-geometry", GeometryMode.FAST,
+			(version, coordinates) -> outputRenderer.setCoordinates(version, coordinates));
+	private static char mode;
+	private static boolean inputMoleculeCreated, outputMoleculeCreated;
+	private Pane secondaryPane;
+	private Pane tertiaryPane;
+	private static AccurateNumber secondarySceneXZ, tertiarySceneXZ;
+	// Each key press turns the molecule by two degrees in one direction or the other.
+	private static final double rotationStep = 2.0;
+
+	/*
+	 * The following method builds the periodic table, which is only done once
+	 * and kept for every later return to it. Every element is a 50 pixel
+	 * square, and the grid of cells records which element each one holds, so
+	 * a click is looked up directly rather than tested against every square.
+	 */
+	private void buildPeriodicTable() {
+		elementSymbols = new Rectangle[118];
+		int width = 18;
+		int height = 10;
+		for (int j = 0; j < height; ++j)
+			for (int i = 0; i < width; ++i) {
+				// The periodic table is color coded.
+				switch (j) {
+				case 0:
+					switch (i) {
+					case 0:
+						elementSymbols[0] = new Rectangle(0, 0, 50, 50);
+						elementSymbols[0].setFill(Color.LIMEGREEN);
+						elementSymbols[0].setStroke(Color.BLACK);
+						break;
+					case 17:
+						elementSymbols[1] = new Rectangle(850, 0, 50, 50);
+						elementSymbols[1].setFill(Color.PINK);
+						elementSymbols[1].setStroke(Color.BLACK);
+					}
+					break;
+				case 1:
+					switch (i) {
+					case 0:
+						elementSymbols[2] = new Rectangle(0, 50, 50, 50);
+						elementSymbols[2].setFill(Color.ORANGE);
+						elementSymbols[2].setStroke(Color.BLACK);
+						break;
+					case 1:
+						elementSymbols[3] = new Rectangle(50, 50, 50, 50);
+						elementSymbols[3].setFill(Color.YELLOW);
+						elementSymbols[3].setStroke(Color.BLACK);
+						break;
+					case 12:
+					case 13:
+					case 14:
+					case 15:
+					case 16:
+						elementSymbols[i - 8] = new Rectangle(600 + (50 * (i - 12)), 50, 50, 50);
+						elementSymbols[i - 8].setFill(Color.LIMEGREEN);
+						elementSymbols[i - 8].setStroke(Color.BLACK);
+						break;
+					case 17:
+						elementSymbols[9] = new Rectangle(850, 50, 50, 50);
+						elementSymbols[9].setFill(Color.PINK);
+						elementSymbols[9].setStroke(Color.BLACK);
+					}
+					break;
+				case 2:
+					switch (i) {
+					case 0:
+						elementSymbols[10] = new Rectangle(0, 100, 50, 50);
+						elementSymbols[10].setFill(Color.ORANGE);
+						elementSymbols[10].setStroke(Color.BLACK);
+						break;
+					case 1:
+						elementSymbols[11] = new Rectangle(50, 100, 50, 50);
+						elementSymbols[11].setFill(Color.YELLOW);
+						elementSymbols[11].setStroke(Color.BLACK);
+						break;
+					case 12:
+						elementSymbols[12] = new Rectangle(600, 100, 50, 50);
+						elementSymbols[12].setFill(Color.CYAN);
+						elementSymbols[12].setStroke(Color.BLACK);
+						break;
+					case 13:
+					case 14:
+					case 15:
+					case 16:
+						elementSymbols[i] = new Rectangle(650 + (50 * (i - 13)), 100, 50, 50);
+						elementSymbols[i].setFill(Color.LIMEGREEN);
+						elementSymbols[i].setStroke(Color.BLACK);
+						break;
+					case 17:
+						elementSymbols[17] = new Rectangle(850, 100, 50, 50);
+						elementSymbols[17].setFill(Color.PINK);
+						elementSymbols[17].setStroke(Color.BLACK);
+					}
+					break;
+				case 3:
+					elementSymbols[i + 18] = new Rectangle(50 * i, 150, 50, 50);
+					switch (i) {
+					case 0:
+						elementSymbols[i + 18].setFill(Color.ORANGE);
+						break;
+					case 1:
+						elementSymbols[i + 18].setFill(Color.YELLOW);
+						break;
+					case 2:
+					case 3:
+					case 4:
+					case 5:
+					case 6:
+					case 7:
+					case 8:
+					case 9:
+					case 10:
+						elementSymbols[i + 18].setFill(Color.ROYALBLUE);
+						break;
+					case 11:
+					case 12:
+					case 13:
+						elementSymbols[i + 18].setFill(Color.CYAN);
+						break;
+					case 14:
+					case 15:
+					case 16:
+						elementSymbols[i + 18].setFill(Color.LIMEGREEN);
+						break;
+					case 17:
+						elementSymbols[i + 18].setFill(Color.PINK);
+					}
+					elementSymbols[i + 18].setStroke(Color.BLACK);
+					break;
+				case 4:
+					switch (i) {
+					case 0:
+						elementSymbols[i + 36] = new Rectangle(0, 200, 50, 50);
+						elementSymbols[i + 36].setFill(Color.ORANGE);
+						elementSymbols[i + 36].setStroke(Color.BLACK);
+						break;
+					case 1:
+						elementSymbols[i + 36] = new Rectangle(50, 200, 50, 50);
+						elementSymbols[i + 36].setFill(Color.YELLOW);
+						elementSymbols[i + 36].setStroke(Color.BLACK);
+						break;
+					case 2:
+					case 3:
+					case 4:
+					case 5:
+					case 6:
+					case 7:
+					case 8:
+					case 9:
+					case 10:
+						elementSymbols[i + 36] = new Rectangle(50 * i, 200, 50, 50);
+						elementSymbols[i + 36].setFill(Color.ROYALBLUE);
+						elementSymbols[i + 36].setStroke(Color.BLACK);
+						break;
+					case 11:
+					case 12:
+					case 13:
+					case 14:
+						elementSymbols[i + 36] = new Rectangle(50 * i, 200, 50, 50);
+						elementSymbols[i + 36].setFill(Color.CYAN);
+						elementSymbols[i + 36].setStroke(Color.BLACK);
+						break;
+					case 15:
+					case 16:
+						elementSymbols[i + 36] = new Rectangle(50 * i, 200, 50, 50);
+						elementSymbols[i + 36].setFill(Color.LIMEGREEN);
+						elementSymbols[i + 36].setStroke(Color.BLACK);
+						break;
+					case 17:
+						elementSymbols[53] = new Rectangle(850, 200, 50, 50);
+						elementSymbols[53].setFill(Color.PINK);
+						elementSymbols[53].setStroke(Color.BLACK);
+					}
+					break;
+				case 5:
+					switch (i) {
+					case 0:
+						elementSymbols[54] = new Rectangle(0, 250, 50, 50);
+						elementSymbols[54].setFill(Color.ORANGE);
+						elementSymbols[54].setStroke(Color.BLACK);
+						break;
+					case 1:
+						elementSymbols[55] = new Rectangle(50, 250, 50, 50);
+						elementSymbols[55].setFill(Color.YELLOW);
+						elementSymbols[55].setStroke(Color.BLACK);
+						break;
+					case 3:
+					case 4:
+					case 5:
+					case 6:
+					case 7:
+					case 8:
+					case 9:
+					case 10:
+						elementSymbols[i + 68] = new Rectangle(50 * i, 250, 50, 50);
+						elementSymbols[i + 68].setFill(Color.ROYALBLUE);
+						elementSymbols[i + 68].setStroke(Color.BLACK);
+						break;
+					case 11:
+					case 12:
+					case 13:
+					case 14:
+					case 15:
+						elementSymbols[i + 68] = new Rectangle(50 * i, 250, 50, 50);
+						elementSymbols[i + 68].setFill(Color.CYAN);
+						elementSymbols[i + 68].setStroke(Color.BLACK);
+						break;
+					case 16:
+						elementSymbols[84] = new Rectangle(800, 250, 50, 50);
+						elementSymbols[84].setFill(Color.LIMEGREEN);
+						elementSymbols[84].setStroke(Color.BLACK);
+						break;
+					case 17:
+						elementSymbols[85] = new Rectangle(850, 250, 50, 50);
+						elementSymbols[85].setFill(Color.PINK);
+						elementSymbols[85].setStroke(Color.BLACK);
+					}
+					break;
+				case 6:
+					switch (i) {
+					case 0:
+						elementSymbols[86] = new Rectangle(0, 300, 50, 50);
+						elementSymbols[86].setFill(Color.ORANGE);
+						elementSymbols[86].setStroke(Color.BLACK);
+						break;
+					case 1:
+						elementSymbols[87] = new Rectangle(50, 300, 50, 50);
+						elementSymbols[87].setFill(Color.YELLOW);
+						elementSymbols[87].setStroke(Color.BLACK);
+						break;
+					case 3:
+					case 4:
+					case 5:
+					case 6:
+					case 7:
+					case 8:
+					case 9:
+					case 10:
+						elementSymbols[100 + i] = new Rectangle(50 * i, 300, 50, 50);
+						elementSymbols[100 + i].setFill(Color.ROYALBLUE);
+						elementSymbols[100 + i].setStroke(Color.BLACK);
+						break;
+					case 11:
+					case 12:
+					case 13:
+					case 14:
+					case 15:
+					case 16:
+						elementSymbols[100 + i] = new Rectangle(50 * i, 300, 50, 50);
+						elementSymbols[100 + i].setFill(Color.CYAN);
+						elementSymbols[100 + i].setStroke(Color.BLACK);
+						break;
+					case 17:
+						elementSymbols[117] = new Rectangle(850, 300, 50, 50);
+						elementSymbols[117].setFill(Color.PINK);
+						elementSymbols[117].setStroke(Color.BLACK);
+					}
+					break;
+				case 8:
+					if (i > 2) {
+						elementSymbols[i + 53] = new Rectangle(50 * i, 400, 50, 50);
+						elementSymbols[i + 53].setFill(Color.VIOLET);
+						elementSymbols[i + 53].setStroke(Color.BLACK);
+					}
+					break;
+				case 9:
+					if (i > 2) {
+						elementSymbols[i + 85] = new Rectangle(50 * i, 450, 50, 50);
+						elementSymbols[i + 85].setFill(Color.YELLOWGREEN);
+						elementSymbols[i + 85].setStroke(Color.BLACK);
+					}
+				}
+			}
+		primaryPane = new Pane();
+		modeSelector = new Button();
+		modeSelector.setPrefSize(230.0, 75.0);
+		modeSelector.setTranslateX(100.0);
+		primaryPane.getChildren().add(modeSelector);
+		for (int r = 0; r < elementSymbols.length; ++r) {
+			Text symbol = new Text(ChemicalElement.symbolOf(r + 1));
+			symbol.setX(10 + elementSymbols[r].getX());
+			symbol.setY(15 + elementSymbols[r].getY());
+			primaryPane.getChildren().add(elementSymbols[r]);
+			primaryPane.getChildren().add(symbol);
+			cellElements[(int) (elementSymbols[r].getY() / cellSize)][(int) (elementSymbols[r].getX() / cellSize)] = r + 1;
+		}
+		primaryScene = new Scene(primaryPane);
+	}
+
+	// The following method returns the atomic number of the element under a point, or 0 if there is none.
+	private int elementAt(double x, double y) {
+		if (x < 0 || y < 0)
+			return 0;
+		int row = (int) (y / cellSize), column = (int) (x / cellSize);
+		if (row >= cellElements.length || column >= cellElements[row].length)
+			return 0;
+		return cellElements[row][column];
+	}
+
+	public void start(Stage primaryStage) {
+		this.primaryStage = primaryStage;
+		buildPeriodicTable();
+		buildMoleculeViews();
+		switch (mode) {
+		case 'A':
+			modeSelector.setText("Remove");
+			primaryStage.setTitle("Mode is \"Add\"");
+			break;
+		case 'R':
+			modeSelector.setText("Add");
+			primaryStage.setTitle("Mode is \"Remove\"");
+		}
+		primaryStage.setScene(primaryScene);
+		promptForMolecule();
+		modeSelector.setOnMouseClicked(e -> {
+			switch (mode) {
+			case 'A':
+				mode = 'R';
+				primaryStage.setTitle("Mode is \"Remove\"");
+				modeSelector.setText("Add");
+				break;
+			case 'R':
+				mode = 'A';
+				primaryStage.setTitle("Mode is \"Add\"");
+				modeSelector.setText("Remove");
+			}
+		});
+		primaryScene.setOnMouseClicked(f -> {
+			int atomicNumber = elementAt(f.getSceneX(), f.getSceneY());
+			if (atomicNumber != 0)
+				try {
+					Atom selection = new Atom(atomicNumber);
+					try {
+						String test0 = previousAtom.toString();
+						sequentialAtom = selection;
+						if (!inputMoleculeCreated) {
+							ArrayList<Atom> listA = new ArrayList<Atom>();
+							listA.add(previousAtom);
+							listA.add(sequentialAtom);
+							boolean[][] temp = new boolean[2][1];
+							temp[0][0] = true;
+							temp[1][0] = true;
+							try {
+								inputMolecule = new Molecule(listA, temp);
+								inputMoleculeCreated = true;
+								inputMolecule.setGeometryMode(GeometryMode.FAST);
+								inputHistory = new MoleculeHistory(inputMolecule.snapshot());
+								inputGeometry.submit(inputHistory.current());
+								inputRenderer.add(previousAtom);
+								inputRenderer.add(sequentialAtom);
+							} catch (InvalidChemicalBondException ivcbe) {
+								JOptionPane.showMessageDialog(null,
+										"Sorry, those two atoms cannot be bonded together.");
+								JOptionPane.showMessageDialog(null, "Please make a different selection.");
+							} catch (InvalidObjectWebSizeException ivowse) {
+
+							}
+							previousAtom = null;
+							sequentialAtom = null;
+							promptForMolecule();
+						} else if (!outputMoleculeCreated) {
+							ArrayList<Atom> listB = new ArrayList<Atom>();
+							listB.add(previousAtom);
+							listB.add(sequentialAtom);
+							boolean[][] temp = new boolean[2][1];
+							temp[0][0] = true;
+							temp[1][0] = true;
+							try {
+								outputMolecule = new Molecule(listB, temp);
+								outputMoleculeCreated = true;
+								outputMolecule.setGeometryMode(GeometryMode.FAST);
+								outputHistory = new MoleculeHistory(outputMolecule.snapshot());
+								outputGeometry.submit(outputHistory.current());
+								outputRenderer.add(previousAtom);
+								outputRenderer.add(sequentialAtom);
+							} catch (InvalidChemicalBondException ivcbe) {
+								JOptionPane.showMessageDialog(null,
+										"Sorry, those two atoms cannot be bonded together.");
+								JOptionPane.showMessageDialog(null, "Please make a different selection.");
+								previousAtom = null;
+								sequentialAtom = null;
+							} catch (InvalidObjectWebSizeException ivowse) {
+								previousAtom = null;
+								sequentialAtom = null;
+							}
+							promptForMolecule();
+						}
+					} catch (NullPointerException npe1) {
+						previousAtom = selection;
+					}
+				} catch (InvalidAtomicNumberException ivane) {
+
+				}
+		});
+		secondaryScene.setOnKeyReleased(e -> {
+			if (turn(inputOrientation, e.getCode()))
+				inputRenderer.invalidate();
+			else if (inputMoleculeCreated) {
+				MoleculeSnapshot version = travel(inputHistory, e);
+				if (version != null) {
+					inputMolecule.restore(version);
+					inputRenderer.reset(inputMolecule.getAllAtoms());
+					inputGeometry.submit(version);
+				}
+			}
+		});
+		tertiaryScene.setOnKeyReleased(e -> {
+			if (turn(outputOrientation, e.getCode()))
+				outputRenderer.invalidate();
+			else if (outputMoleculeCreated) {
+				MoleculeSnapshot version = travel(outputHistory, e);
+				if (version != null) {
+					outputMolecule.restore(version);
+					outputRenderer.reset(outputMolecule.getAllAtoms());
+					outputGeometry.submit(version);
+				}
+			}
+		});
+		secondaryScene.setOnMouseClicked(e -> {
+			int point = inputRenderer.atomAt(e.getSceneX(), e.getSceneY());
+			if (point >= 0)
+				switch (mode) {
+				case 'R':
+					try {
+						inputMolecule.remove(point);
+						inputRenderer.remove(point);
+						inputHistory.record(inputMolecule.snapshot());
+						inputGeometry.submit(inputHistory.current());
+					} catch (IllegalArgumentException ilae) {
+
+					}
+					break;
+				case 'A':
+					try {
+						inputMolecule.bond(point, sequentialAtom);
+						inputRenderer.add(sequentialAtom);
+						inputHistory.record(inputMolecule.snapshot());
+						inputGeometry.submit(inputHistory.current());
+					} catch (InvalidObjectWebSizeException | InvalidChemicalBondException e0) {
+
+					} finally {
+						switchStage(secondaryStage, primaryStage);
+					}
+				}
+		});
+		tertiaryScene.setOnMouseClicked(e -> {
+			int point = outputRenderer.atomAt(e.getSceneX(), e.getSceneY());
+			if (point >= 0)
+				switch (mode) {
+				case 'R':
+					try {
+						outputMolecule.remove(point);
+						outputRenderer.remove(point);
+						outputHistory.record(outputMolecule.snapshot());
+						outputGeometry.submit(outputHistory.current());
+					} catch (IllegalArgumentException ilae) {
+
+					}
+					break;
+				case 'A':
+					try {
+						outputMolecule.bond(point, sequentialAtom);
+						outputRenderer.add(sequentialAtom);
+						outputHistory.record(outputMolecule.snapshot());
+						outputGeometry.submit(outputHistory.current());
+					} catch (InvalidObjectWebSizeException | InvalidChemicalBondException e0) {
+
+					} finally {
+						switchStage(tertiaryStage, primaryStage);
+					}
+				}
+		});
+		primaryPane.getChildren().add(navigationButton("Input", 330.0, primaryStage, secondaryStage));
+		primaryPane.getChildren().add(navigationButton("Output", 450.0, primaryStage, tertiaryStage));
+		secondaryPane.getChildren().add(navigationButton("Table", 330.0, secondaryStage, primaryStage));
+		secondaryPane.getChildren().add(navigationButton("Output", 450.0, secondaryStage, tertiaryStage));
+		tertiaryPane.getChildren().add(navigationButton("Table", 330.0, tertiaryStage, primaryStage));
+		tertiaryPane.getChildren().add(navigationButton("Input", 450.0, tertiaryStage, secondaryStage));
+		primaryScene.setFill(Color.BLACK);
+		primaryStage.show();
+	}
+
+	// The following method makes the stages of the two molecules, which are hidden until they are asked for.
+	private void buildMoleculeViews() {
+		secondaryStage = new Stage();
+		secondaryPane = new Pane();
+		secondaryScene = new Scene(secondaryPane);
+		tertiaryStage = new Stage();
+		tertiaryPane = new Pane();
+		tertiaryScene = new Scene(tertiaryPane);
+		secondaryStage.setScene(secondaryScene);
+		tertiaryStage.setScene(tertiaryScene);
+		secondaryScene.setFill(Color.BLACK);
+		tertiaryScene.setFill(Color.BLACK);
+		String renderer = System.getProperty("alchemy.renderer", "circles");
+		inputRenderer = MoleculeRenderer.create(renderer, secondaryPane, inputOrientation);
+		outputRenderer = MoleculeRenderer.create(renderer, tertiaryPane, outputOrientation);
+		Button inputSwitch = new Button(), outputSwitch = new Button();
+		for (Button rendererSwitch : new Button[] { inputSwitch, outputSwitch }) {
+			rendererSwitch.setPrefSize(120.0, 60.0);
+			rendererSwitch.setTranslateX(570.0);
+			rendererSwitch.setText(inputRenderer instanceof CanvasRenderer ? "Circles" : "Canvas");
+		}
+		inputSwitch.setOnMouseClicked(e -> {
+			inputRenderer = switchRenderer(inputRenderer, secondaryPane, inputOrientation,
+					inputMoleculeCreated ? inputMolecule : null, inputGeometry);
+			inputSwitch.setText(inputRenderer instanceof CanvasRenderer ? "Circles" : "Canvas");
+		});
+		outputSwitch.setOnMouseClicked(e -> {
+			outputRenderer = switchRenderer(outputRenderer, tertiaryPane, outputOrientation,
+					outputMoleculeCreated ? outputMolecule : null, outputGeometry);
+			outputSwitch.setText(outputRenderer instanceof CanvasRenderer ? "Circles" : "Canvas");
+		});
+		secondaryPane.getChildren().add(inputSwitch);
+		tertiaryPane.getChildren().add(outputSwitch);
+	}
+
+	/*
+	 * The following method replaces a view's renderer with the other kind. The
+	 * coordinates are asked for again, so the new renderer gets them as soon
+	 * as they are ready.
+	 */
+	private MoleculeRenderer switchRenderer(MoleculeRenderer old, Pane pane, Orientation orientation,
+			Molecule molecule, GeometryService geometry) {
+		old.dispose();
+		MoleculeRenderer renderer = MoleculeRenderer.create(old instanceof CanvasRenderer ? "circles" : "canvas",
+				pane, orientation);
+		if (molecule != null) {
+			renderer.reset(molecule.getAllAtoms());
+			geometry.submit(molecule.snapshot());
+		}
+		return renderer;
+	}
+
+	// The following method makes a button that hides one stage and shows another.
+	private Button navigationButton(String text, double x, Stage from, Stage to) {
+		Button button = new Button(text);
+		button.setPrefSize(120.0, 60.0);
+		button.setTranslateX(x);
+		button.setOnMouseClicked(e -> switchStage(from, to));
+		return button;
+	}
+
+	private void switchStage(Stage from, Stage to) {
+		from.close();
+		to.show();
+	}
+
+	// The following method asks for the first two atoms of whichever molecule has not been made yet.
+	private void promptForMolecule() {
+		if (!inputMoleculeCreated)
+			JOptionPane.showMessageDialog(null, "Please select two atoms to begin creation of the first molecule.");
+		else if (!outputMoleculeCreated)
+			JOptionPane.showMessageDialog(null, "Please select two atoms to begin creation of the second molecule.");
+	}
+
+	// The following method turns an orientation for an arrow key and returns whether it did.
+	private static boolean turn(Orientation orientation, KeyCode key) {
+		switch (key) {
+		case UP:
+			orientation.rotateYZ(-rotationStep);
+			return true;
+		case DOWN:
+			orientation.rotateYZ(rotationStep);
+			return true;
+		case RIGHT:
+			orientation.rotateXZ(-rotationStep);
+			return true;
+		case LEFT:
+			orientation.rotateXZ(rotationStep);
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/*
+	 * The following method returns the version of a molecule that Ctrl+Z or
+	 * Ctrl+Y (or Ctrl+Shift+Z) moves to in its history, or null if the key
+	 * moves to none.
+	 */
+	private static MoleculeSnapshot travel(MoleculeHistory history, KeyEvent e) {
+		if (!e.isShortcutDown())
+			return null;
+		if (e.getCode() == KeyCode.Z && !e.isShiftDown())
+			return history.canUndo() ? history.undo() : null;
+		if (e.getCode() == KeyCode.Y || e.getCode() == KeyCode.Z)
+			return history.canRedo() ? history.redo() : null;
+		return null;
+	}
+
+	@Override
+	public void stop() {
+		inputGeometry.close();
+		outputGeometry.close();
+		inputRenderer.dispose();
+		outputRenderer.dispose();
+	}
+
+	public static void main(String[] args) {
+		inputMoleculeCreated = false;
+		outputMoleculeCreated = false;
+		previousAtom = null;
+		sequentialAtom = null;
+		mode = 'A';
+		secondarySceneXZ = new AccurateNumber("0", "0");
+		tertiarySceneXZ = new AccurateNumber("0", "0");
+		launch(args);
+	}
+}
@@ -0,0 +1,216 @@
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+/*
+ * The following class draws a molecule straight onto a canvas, so a molecule
+ * of any size adds a single node to the scene. Every frame that something has
+ * changed, the atoms are projected into one flat buffer, the ones on screen
+ * are sorted from the farthest to the nearest by a key packing each atom's
+ * drawn radius with its index into a long, and the bonds and then the atoms
+ * are painted in that order. Nothing is allocated while drawing once the
+ * buffers are large enough for the molecule.
+ */
+final class CanvasRenderer implements MoleculeRenderer {
+	static final double width = 1000.0, height = 750.0;
+	// Atoms drawn smaller than this radius are filled as squares and not outlined, which is far cheaper.
+	private static final double smallRadius = 2.0;
+	private static final Color[] palette = new Color[121];
+	private final Pane pane;
+	private final Orientation orientation;
+	private final Canvas canvas = new Canvas(width, height);
+	private final GraphicsContext graphics = canvas.getGraphicsContext2D();
+	// The number of atoms the molecule has now, which the coordinates may not have caught up with.
+	private int size;
+	private MoleculeSnapshot version;
+	/*
+	 * For every atom of the molecule now, the atom of the version drawn that it
+	 * is, or -1 if it was added since; and the other way round, for every atom
+	 * drawn, the atom it is now, or -1 if it was removed since.
+	 */
+	private int[] drawnAs = new int[0];
+	private int[] current = new int[0];
+	private CoordinateBuffer coordinates, view;
+	// The screen position and radius of every atom, three numbers per atom; the radius is 0 behind the viewer.
+	private double[] projected = new double[0];
+	// The atoms on screen as depth and index, in the order they are painted.
+	private long[] order = new long[0];
+	private int painted;
+	private boolean dirty;
+	private final AnimationTimer frames = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			if (dirty)
+				render();
+		}
+	};
+
+	static {
+		for (int z = 1; z < palette.length; ++z)
+			palette[z] = MoleculeRenderer.colorOf(z);
+	}
+
+	CanvasRenderer(Pane pane, Orientation orientation) {
+		this.pane = pane;
+		this.orientation = orientation;
+		// The canvas goes behind the buttons.
+		pane.getChildren().add(0, canvas);
+		frames.start();
+	}
+
+	@Override
+	public void add(Atom atom) {
+		grow(size + 1);
+		drawnAs[size++] = -1;
+		dirty = true;
+	}
+
+	// The last atom takes the place of the removed one, so it keeps its drawing under its new number.
+	@Override
+	public void remove(int atom) {
+		drawnAs[atom] = drawnAs[--size];
+		dirty = true;
+	}
+
+	// None of the atoms of a restored molecule are known to be the ones drawn.
+	@Override
+	public void reset(List<Atom> atoms) {
+		size = atoms.size();
+		grow(size);
+		Arrays.fill(drawnAs, 0, size, -1);
+		dirty = true;
+	}
+
+	// A version is only published while it is the latest, so its atoms are the atoms as they are now.
+	@Override
+	public void setCoordinates(MoleculeSnapshot version, CoordinateBuffer coordinates) {
+		this.version = version;
+		this.coordinates = coordinates;
+		for (int a = 0; a < size; ++a)
+			drawnAs[a] = a < version.atomCount() ? a : -1;
+		dirty = true;
+	}
+
+	@Override
+	public void invalidate() {
+		dirty = true;
+	}
+
+	/*
+	 * The nearest atoms are painted last, so they are searched first. The
+	 * drawing is brought up to date first, so that it shows only atoms that
+	 * still exist, and an atom found is given its number now.
+	 */
+	@Override
+	public int atomAt(double x, double y) {
+		if (dirty)
+			render();
+		for (int k = painted - 1; k >= 0; --k) {
+			int a = (int) order[k];
+			double dx = x - projected[a * 3], dy = y - projected[a * 3 + 1], radius = projected[a * 3 + 2];
+			if (dx * dx + dy * dy <= radius * radius)
+				return current[a];
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void dispose() {
+		frames.stop();
+		pane.getChildren().remove(canvas);
+	}
+
+	private void grow(int atoms) {
+		if (drawnAs.length < atoms)
+			drawnAs = Arrays.copyOf(drawnAs, Math.max(atoms, drawnAs.length * 2));
+	}
+
+	/*
+	 * The following method packs a radius and an atom into a key that sorts
+	 * as the radius does. An atom is drawn smaller the farther it is from the
+	 * eye, so the keys sort from the farthest atom to the nearest, whichever
+	 * side of the eye's plane z lies on. The bits of a positive float compare
+	 * as integers in the same order as the floats.
+	 */
+	private static long depthKey(double radius, int atom) {
+		return ((long) Float.floatToIntBits((float) radius) << 32) | atom;
+	}
+
+	private void render() {
+		dirty = false;
+		graphics.clearRect(0, 0, width, height);
+		painted = 0;
+		if (coordinates == null)
+			return;
+		int atoms = Math.min(coordinates.size(), version.atomCount());
+		if (view == null || view.size() != coordinates.size())
+			view = new CoordinateBuffer(coordinates.size());
+		orientation.apply(coordinates, view);
+		if (projected.length < atoms * 3) {
+			projected = new double[atoms * 3];
+			order = new long[atoms];
+			current = new int[atoms];
+		}
+		Arrays.fill(current, 0, atoms, -1);
+		for (int a = 0; a < size; ++a)
+			if (drawnAs[a] >= 0 && drawnAs[a] < atoms)
+				current[drawnAs[a]] = a;
+		for (int a = 0; a < atoms; ++a) {
+			double x = view.getX(a), y = view.getY(a), z = view.getZ(a);
+			// An atom removed since is not drawn.
+			double radius = current[a] >= 0 && MoleculeRenderer.visible(z) ? MoleculeRenderer.radius(z) : 0;
+			projected[a * 3] = x;
+			projected[a * 3 + 1] = y;
+			projected[a * 3 + 2] = radius;
+			if (radius > 0 && x + radius >= 0 && x - radius <= width && y + radius >= 0 && y - radius <= height)
+				order[painted++] = depthKey(radius, a);
+		}
+		Arrays.sort(order, 0, painted);
+		paintBonds(atoms);
+		paintAtoms();
+	}
+
+	// The bonds are painted first, behind every atom, and only between atoms in front of the viewer.
+	private void paintBonds(int atoms) {
+		graphics.setStroke(Color.WHITE);
+		graphics.setLineWidth(1.0);
+		for (int a = 0; a < atoms; ++a) {
+			if (projected[a * 3 + 2] == 0)
+				continue;
+			for (int k = 0; k < version.degree(a); ++k) {
+				int b = version.neighbour(a, k);
+				if (b > a && b < atoms && projected[b * 3 + 2] > 0)
+					graphics.strokeLine(projected[a * 3], projected[a * 3 + 1], projected[b * 3], projected[b * 3 + 1]);
+			}
+		}
+	}
+
+	private void paintAtoms() {
+		Color fill = null;
+		for (int k = 0; k < painted; ++k) {
+			int a = (int) order[k];
+			double x = projected[a * 3], y = projected[a * 3 + 1], radius = projected[a * 3 + 2];
+			Color color = palette[version.atomicNumber(a)];
+			if (color != fill) {
+				graphics.setFill(color);
+				fill = color;
+			}
+			if (radius < smallRadius)
+				graphics.fillRect(x - radius, y - radius, radius * 2, radius * 2);
+			else {
+				graphics.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+				graphics.strokeOval(x - radius, y - radius, radius * 2, radius * 2);
+			}
+		}
+	}
+}
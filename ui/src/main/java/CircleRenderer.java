@@ -0,0 +1,179 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+
+/*
+ * The following class draws a molecule as one circle per atom on a pane. The
+ * circles stay on the pane for as long as their atoms exist. A change only
+ * marks the drawing out of date, and the circles are brought up to date once
+ * per frame, however many changes were made in between. Only the circles that
+ * moved are touched, and an atom behind the viewer is hidden rather than
+ * taken off the pane.
+ */
+final class CircleRenderer implements MoleculeRenderer {
+	private final Pane pane;
+	private final Orientation orientation;
+	private final ArrayList<Circle> images = new ArrayList<Circle>();
+	// The following circles are added to or taken off the pane at the next frame.
+	private final LinkedHashSet<Circle> attaching = new LinkedHashSet<Circle>();
+	private final HashSet<Circle> detaching = new HashSet<Circle>();
+	// The centre and radius of every circle as last set, three numbers per atom, so unchanged ones are skipped.
+	private double[] shown = new double[0];
+	// For every atom, the atom of the version the coordinates belong to that it is, or -1 if it was added since.
+	private int[] drawnAs = new int[0];
+	private CoordinateBuffer coordinates, view;
+	private boolean dirty;
+	private final AnimationTimer frames = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			if (dirty)
+				render();
+		}
+	};
+
+	CircleRenderer(Pane pane, Orientation orientation) {
+		this.pane = pane;
+		this.orientation = orientation;
+		frames.start();
+	}
+
+	@Override
+	public void invalidate() {
+		dirty = true;
+	}
+
+	// A version is only published while it is the latest, so its atoms are the atoms as they are now.
+	@Override
+	public void setCoordinates(MoleculeSnapshot version, CoordinateBuffer coordinates) {
+		this.coordinates = coordinates;
+		for (int a = 0; a < images.size(); ++a)
+			drawnAs[a] = a < version.atomCount() ? a : -1;
+		dirty = true;
+	}
+
+	@Override
+	public void add(Atom atom) {
+		Circle image = atomicImage(atom);
+		image.setVisible(false);
+		images.add(image);
+		attaching.add(image);
+		grow(images.size());
+		forget(images.size() - 1);
+		drawnAs[images.size() - 1] = -1;
+		dirty = true;
+	}
+
+	@Override
+	public void remove(int atom) {
+		Circle removed = images.get(atom);
+		int last = images.size() - 1;
+		images.set(atom, images.get(last));
+		images.remove(last);
+		System.arraycopy(shown, last * 3, shown, atom * 3, 3);
+		// The last atom keeps the coordinates it had under its old number until new ones arrive.
+		drawnAs[atom] = drawnAs[last];
+		if (!attaching.remove(removed))
+			detaching.add(removed);
+		dirty = true;
+	}
+
+	@Override
+	public void reset(List<Atom> atoms) {
+		for (Circle image : images)
+			if (!attaching.remove(image))
+				detaching.add(image);
+		images.clear();
+		for (Atom atom : atoms)
+			add(atom);
+	}
+
+	@Override
+	public int size() {
+		return images.size();
+	}
+
+	@Override
+	public int atomAt(double x, double y) {
+		for (int a = images.size() - 1; a >= 0; --a)
+			if (images.get(a).isVisible() && images.get(a).contains(x, y))
+				return a;
+		return -1;
+	}
+
+	@Override
+	public void dispose() {
+		frames.stop();
+		detaching.addAll(images);
+		pane.getChildren().removeAll(detaching);
+	}
+
+	private void grow(int atoms) {
+		if (shown.length < atoms * 3)
+			shown = Arrays.copyOf(shown, Math.max(atoms * 3, shown.length * 2));
+		if (drawnAs.length < atoms)
+			drawnAs = Arrays.copyOf(drawnAs, Math.max(atoms, drawnAs.length * 2));
+	}
+
+	// The following method makes sure the next frame sets an atom's circle.
+	private void forget(int atom) {
+		shown[atom * 3] = Double.NaN;
+	}
+
+	private void render() {
+		dirty = false;
+		if (!detaching.isEmpty()) {
+			pane.getChildren().removeAll(detaching);
+			detaching.clear();
+		}
+		if (!attaching.isEmpty()) {
+			pane.getChildren().addAll(attaching);
+			attaching.clear();
+		}
+		int known = 0;
+		if (coordinates != null) {
+			if (view == null || view.size() != coordinates.size())
+				view = new CoordinateBuffer(coordinates.size());
+			orientation.apply(coordinates, view);
+			known = view.size();
+		}
+		for (int a = 0; a < images.size(); ++a) {
+			Circle image = images.get(a);
+			// An atom added since has no coordinates until they have been calculated.
+			int d = drawnAs[a];
+			boolean visible = d >= 0 && d < known && MoleculeRenderer.visible(view.getZ(d));
+			if (image.isVisible() != visible)
+				image.setVisible(visible);
+			if (!visible)
+				continue;
+			double x = view.getX(d), y = view.getY(d);
+			double radius = MoleculeRenderer.radius(view.getZ(d));
+			int s = a * 3;
+			if (x != shown[s]) {
+				image.setCenterX(x);
+				shown[s] = x;
+			}
+			if (y != shown[s + 1]) {
+				image.setCenterY(y);
+				shown[s + 1] = y;
+			}
+			if (radius != shown[s + 2]) {
+				image.setRadius(radius);
+				shown[s + 2] = radius;
+			}
+		}
+	}
+
+	static Circle atomicImage(Atom a) {
+		Circle atomicImage = new Circle(a.diameterInPicometers() / 2.0);
+		atomicImage.setStroke(Color.WHITE);
+		atomicImage.setFill(MoleculeRenderer.colorOf(a.getAtomicNumber()));
+		return atomicImage;
+	}
+}
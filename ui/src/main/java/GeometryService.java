@@ -0,0 +1,92 @@
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import javafx.application.Platform;
+
+/*
+ * The following class calculates the coordinates of a molecule away from the
+ * JavaFX thread, so the viewer does not freeze while a large molecule is laid
+ * out. It is handed snapshots, which cannot change while they are being
+ * worked on. Versions handed over while an earlier one is being calculated
+ * are coalesced: only the latest waits, and the rest are dropped. A result is
+ * only published, on the JavaFX thread, if no newer version was handed over
+ * since, so the scene never shows coordinates older than it already has.
+ * A version whose coordinates cannot be calculated is published without
+ * any, so the drawing of the version before it is not left on screen.
+ */
+final class GeometryService {
+	private final GeometryMode mode;
+	private final BiConsumer<MoleculeSnapshot, CoordinateBuffer> publisher;
+	private final ExecutorService worker;
+	// The following number goes up with every version handed over, so that older results can be told apart.
+	private final AtomicLong generation = new AtomicLong();
+	// The version waiting to be calculated, if any.
+	private final AtomicReference<Request> pending = new AtomicReference<Request>();
+
+	private static final class Request {
+		final MoleculeSnapshot version;
+		final long generation;
+
+		Request(MoleculeSnapshot version, long generation) {
+			this.version = version;
+			this.generation = generation;
+		}
+	}
+
+	GeometryService(String name, GeometryMode mode, BiConsumer<MoleculeSnapshot, CoordinateBuffer> publisher) {
+		this.mode = mode;
+		this.publisher = publisher;
+		worker = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	// The following method asks for the coordinates of a version, in place of any version asked for before.
+	void submit(MoleculeSnapshot version) {
+		Request request = new Request(version, generation.incrementAndGet());
+		if (pending.getAndSet(request) == null)
+			worker.execute(this::calculate);
+	}
+
+	// The following method drops every result that has not been published yet.
+	void cancel() {
+		generation.incrementAndGet();
+		pending.set(null);
+	}
+
+	void close() {
+		cancel();
+		worker.shutdownNow();
+	}
+
+	private boolean superseded(Request request) {
+		return request.generation != generation.get();
+	}
+
+	private void calculate() {
+		Request request = pending.getAndSet(null);
+		if (request == null || superseded(request))
+			return;
+		CoordinateBuffer coordinates;
+		try {
+			Molecule molecule = request.version.toMolecule();
+			molecule.setGeometryMode(mode);
+			coordinates = molecule.molecularCoordinateBuffer();
+		} catch (InvalidChemicalBondException | InvalidObjectWebSizeException | NumberTooLargeException
+				| InvalidDimensionUseException | RuntimeException e) {
+			coordinates = null;
+		}
+		CoordinateBuffer published = coordinates;
+		if (superseded(request))
+			return;
+		Platform.runLater(() -> {
+			if (!superseded(request))
+				publisher.accept(request.version, published);
+		});
+	}
+}
@@ -0,0 +1,85 @@
+import java.util.List;
+
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+/*
+ * The following interface is what the viewer needs of whatever draws a
+ * molecule. Atoms are added and removed in step with the molecule, so an atom
+ * is known by the same index in both, and the coordinates arrive later, from
+ * the background calculation, together with the version they were calculated
+ * for. A renderer draws at most once per frame, however often it is changed.
+ */
+interface MoleculeRenderer {
+	// An atom this far behind the plane of the screen is behind the viewer.
+	double eyeDistance = 25.0;
+
+	void add(Atom atom);
+
+	// The following method removes an atom's drawing. The last atom takes the place of the removed one.
+	void remove(int atom);
+
+	// The following method replaces every atom's drawing, as when a molecule is restored.
+	void reset(List<Atom> atoms);
+
+	// The coordinates are null if they could not be calculated for the version, and then no atom is drawn.
+	void setCoordinates(MoleculeSnapshot version, CoordinateBuffer coordinates);
+
+	// The following method marks the drawing out of date, for instance when the orientation has turned.
+	void invalidate();
+
+	// The following method returns the atom drawn at a point, or -1 if there is none.
+	int atomAt(double x, double y);
+
+	int size();
+
+	// The following method stops drawing and takes everything the renderer added off the pane.
+	void dispose();
+
+	/*
+	 * The following method makes the renderer named, "canvas" or "circles",
+	 * drawing on a pane as seen with an orientation.
+	 */
+	static MoleculeRenderer create(String kind, Pane pane, Orientation orientation) {
+		if ("canvas".equalsIgnoreCase(kind))
+			return new CanvasRenderer(pane, orientation);
+		return new CircleRenderer(pane, orientation);
+	}
+
+	static boolean visible(double z) {
+		return z >= -eyeDistance;
+	}
+
+	// The following method gives the radius an atom is drawn with at a depth, larger the nearer it is.
+	static double radius(double z) {
+		return eyeDistance / Math.abs(eyeDistance - z) * 1000.0;
+	}
+
+	static Color colorOf(int atomicNumber) {
+		ChemicalElement element = ChemicalElement.lookUpChemicalElementByOrdinal(atomicNumber);
+		if (element == ChemicalElement.Sulfur)
+			return Color.YELLOW;
+		else if (element == ChemicalElement.Silver)
+			return Color.SILVER;
+		else if (element == ChemicalElement.Gold)
+			return Color.GOLD;
+		switch (atomicNumber % 8) {
+		case 0:
+			return Color.CYAN;
+		case 1:
+			return Color.RED;
+		case 2:
+			return Color.PINK;
+		case 3:
+			return Color.GRAY;
+		case 4:
+			return Color.ORANGE;
+		case 5:
+			return Color.BEIGE;
+		case 6:
+			return Color.TAN;
+		default:
+			return Color.GREEN;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * The following class holds the accumulated rotation of a view as a three by
+ * three matrix in row order. Each turn is multiplied into the matrix, so the
+ * coordinates being viewed never change and no rounding builds up in them.
+ */
+final class Orientation {
+	private final double[] matrix = { 1, 0, 0, 0, 1, 0, 0, 0, 1 };
+
+	void reset() {
+		for (int i = 0; i < 9; ++i)
+			matrix[i] = i % 4 == 0 ? 1 : 0;
+	}
+
+	// The following two methods turn the view by an angle in degrees.
+	void rotateXZ(double degrees) {
+		double cos = Math.cos(Math.toRadians(degrees)), sin = Math.sin(Math.toRadians(degrees));
+		compose(0, 2, cos, sin);
+	}
+
+	void rotateYZ(double degrees) {
+		double cos = Math.cos(Math.toRadians(degrees)), sin = Math.sin(Math.toRadians(degrees));
+		compose(1, 2, cos, sin);
+	}
+
+	/*
+	 * The following method multiplies a rotation in the plane of axes a and b
+	 * onto the left of the matrix, which only changes rows a and b.
+	 */
+	private void compose(int a, int b, double cos, double sin) {
+		for (int column = 0; column < 3; ++column) {
+			double rowA = matrix[a * 3 + column], rowB = matrix[b * 3 + column];
+			matrix[a * 3 + column] = rowA * cos - rowB * sin;
+			matrix[b * 3 + column] = rowA * sin + rowB * cos;
+		}
+	}
+
+	/*
+	 * The following method writes the rotated coordinates into the target,
+	 * turning them around their centroid.
+	 */
+	void apply(CoordinateBuffer source, CoordinateBuffer target) {
+		source.transform(matrix, source.centroid(), target);
+	}
+}